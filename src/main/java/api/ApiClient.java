@@ -0,0 +1,281 @@
+package api;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriver;
+
+import base.TestContext;
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import driver.DriverManager;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.ContentType;
+import io.restassured.http.Cookie;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * HTTP API client for creating test preconditions (users, orders, carts) without the UI.
+ * <p>
+ * All requests share one RestAssured configuration backed by a single pooled, keep-alive
+ * HTTP client, so the hundreds of setup calls of a suite reuse a small set of connections
+ * instead of opening one per call. Each test has its own API session: cookies set by
+ * responses (for example after a login call) are stored in the test's {@link TestContext},
+ * so they are released when the test ends and seen by workers it hands off to, sent with later
+ * requests to the same host (or the cookie's {@code Domain}) and path, and can be handed to
+ * the current {@link DriverManager} driver with {@link #transferCookiesToDriver()} so the UI
+ * test starts already signed in.
+ * </p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>Pooled keep-alive connections, sized by {@code apiMaxConnections}</li>
+ *   <li>Base URL from {@code apiBaseURL}, or any URL (e.g. a local stub server) via {@link #request(String)}</li>
+ *   <li>Per-test session cookies, matched by host and path and transferable to the browser</li>
+ *   <li>Response bodies buffered eagerly, so a connection returns to the pool as soon as a call completes</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ApiClient.request().body("{\"user\":\"jane\",\"password\":\"secret\"}").post("/login").then().statusCode(200);
+ * String orderId = ApiClient.request().body(order).post("/orders").then().statusCode(201).extract().path("id");
+ * ApiClient.transferCookiesToDriver();
+ * DriverManager.getDriver().navigate().refresh();
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ApiClient {
+
+    /** Shared configuration whose HTTP client (and connection pool) is reused by every request. */
+    private static final RestAssuredConfig config = RestAssuredConfig.config().httpClient(
+            HttpClientConfig.httpClientConfig().reuseHttpClientInstance().httpClientFactory(ApiClient::createHttpClient));
+
+    /** Filter that sends and records the current test's session cookies. */
+    private static final Filter sessionFilter = new SessionCookieFilter();
+
+    /** Private constructor to prevent instantiation. */
+    private ApiClient() {}
+
+    /**
+     * Starts a JSON request against {@code apiBaseURL} in the current test's session.
+     *
+     * @return A RestAssured {@link RequestSpecification} ready for {@code get}/{@code post}/...
+     */
+    public static RequestSpecification request() {
+        return request(ConfigReader.getProperty(ConfigPropertiesKey.APIBASEURL));
+    }
+
+    /**
+     * Starts a JSON request against the given base URL in the current test's session.
+     *
+     * @param baseUri The base URL, for example {@code http://localhost:8089} of a stub server
+     * @return A RestAssured {@link RequestSpecification} ready for {@code get}/{@code post}/...
+     */
+    public static RequestSpecification request(String baseUri) {
+        return RestAssured.given()
+                .config(config)
+                .baseUri(baseUri)
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .filter(sessionFilter);
+    }
+
+    /** Returns the current test's session cookies for {@code apiBaseURL}, keyed by name. */
+    public static Map<String, Cookie> getSessionCookies() {
+        return getSessionCookies(ConfigReader.getProperty(ConfigPropertiesKey.APIBASEURL));
+    }
+
+    /**
+     * Returns the current test's session cookies that are sent to the given URL.
+     *
+     * @param url The URL, for example {@code http://localhost:8089/orders}
+     * @return The matching cookies keyed by name
+     */
+    public static Map<String, Cookie> getSessionCookies(String url) {
+        URI uri = URI.create(url);
+        Map<String, Cookie> cookies = new LinkedHashMap<>();
+        for (SessionCookie stored : session().cookies()) {
+            if (stored.matches(uri)) {
+                cookies.putIfAbsent(stored.cookie.getName(), stored.cookie);
+            }
+        }
+        return cookies;
+    }
+
+    /**
+     * Adds the current test's session cookies for the page the current driver is on.
+     * <p>
+     * The browser must already be on a page of the cookies' domain (for example the base
+     * URL opened by {@link base.BaseClass}); cookies of other hosts are not transferred.
+     * Reload the page afterwards so the application picks up the session.
+     * </p>
+     *
+     * @throws IllegalStateException if no driver is running on this thread
+     */
+    public static void transferCookiesToDriver() {
+        WebDriver driver = DriverManager.getDriver();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver is running on this thread. Call DriverManager.initDriver() first.");
+        }
+        URI page = URI.create(driver.getCurrentUrl());
+        for (SessionCookie stored : session().cookies()) {
+            if (!stored.matchesHost(page.getHost())) {
+                continue;
+            }
+            Cookie cookie = stored.cookie;
+            Date expiry = cookie.hasExpiryDate() ? cookie.getExpiryDate() : null;
+            driver.manage().addCookie(new org.openqa.selenium.Cookie(cookie.getName(), cookie.getValue(),
+                    stored.hostOnly ? null : stored.domain, stored.path, expiry,
+                    cookie.isSecured(), cookie.isHttpOnly()));
+        }
+    }
+
+    /** Clears the current test's API session. Called after each test. */
+    public static void reset() {
+        TestContext context = TestContext.get();
+        if (context != null) {
+            context.setMetrics(Session.class, null);
+        }
+    }
+
+    /** Returns the current test's API session, creating it on first use. */
+    private static Session session() {
+        TestContext context = TestContext.current();
+        synchronized (context) {
+            Session session = context.getMetrics(Session.class);
+            if (session == null) {
+                session = new Session();
+                context.setMetrics(Session.class, session);
+            }
+            return session;
+        }
+    }
+
+    /**
+     * Creates the shared HTTP client with a thread-safe, keep-alive connection pool.
+     * <p>
+     * RestAssured configures the client through the legacy {@code AbstractHttpClient} API, so
+     * the deprecated classes are referenced by their full names here rather than imported:
+     * {@code @SuppressWarnings} does not cover import statements on Java 8.
+     * </p>
+     */
+    @SuppressWarnings("deprecation")
+    private static org.apache.http.client.HttpClient createHttpClient() {
+        int maxConnections = ConfigReader.getInt(ConfigPropertiesKey.APIMAXCONNECTIONS, 50);
+        org.apache.http.impl.conn.PoolingClientConnectionManager pool =
+                new org.apache.http.impl.conn.PoolingClientConnectionManager();
+        pool.setMaxTotal(maxConnections);
+        pool.setDefaultMaxPerRoute(Math.max(1, maxConnections / 2));
+        return new org.apache.http.impl.client.DefaultHttpClient(pool);
+    }
+
+    /**
+     * Sends the test's session cookies with each request, stores the cookies each response
+     * sets and buffers the response body.
+     */
+    private static class SessionCookieFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            Session session = session();
+            URI uri = URI.create(requestSpec.getURI());
+            for (SessionCookie stored : session.cookies()) {
+                if (stored.matches(uri) && !requestSpec.getCookies().hasCookieWithName(stored.cookie.getName())) {
+                    requestSpec.cookie(stored.cookie.getName(), stored.cookie.getValue());
+                }
+            }
+            Response response = ctx.next(requestSpec, responseSpec);
+            // Reading the body to the end releases the connection back to the pool even when
+            // the caller only checks the status code
+            response.asByteArray();
+            for (Cookie cookie : response.getDetailedCookies()) {
+                SessionCookie stored = new SessionCookie(cookie, uri);
+                boolean expired = cookie.hasExpiryDate() && cookie.getExpiryDate().before(new Date())
+                        || cookie.hasMaxAge() && cookie.getMaxAge() == 0;
+                session.store(stored, expired);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * The API session of a test: its cookies keyed by domain, path and name. Synchronized, as
+     * workers the test's context is propagated to share it.
+     */
+    private static final class Session {
+        private final Map<String, SessionCookie> cookies = new LinkedHashMap<>();
+
+        synchronized List<SessionCookie> cookies() {
+            return new ArrayList<>(cookies.values());
+        }
+
+        synchronized void store(SessionCookie cookie, boolean expired) {
+            if (expired) {
+                cookies.remove(cookie.key());
+            } else {
+                cookies.put(cookie.key(), cookie);
+            }
+        }
+    }
+
+    /** A session cookie with the domain and path it applies to, defaulted from the response that set it. */
+    private static class SessionCookie {
+        final Cookie cookie;
+        final String domain;
+        final boolean hostOnly;
+        final String path;
+
+        SessionCookie(Cookie cookie, URI origin) {
+            this.cookie = cookie;
+            this.hostOnly = !cookie.hasDomain();
+            String host = hostOnly ? origin.getHost() : cookie.getDomain();
+            // A leading dot of the Domain attribute is ignored (RFC 6265, section 5.2.3)
+            this.domain = (host.startsWith(".") ? host.substring(1) : host).toLowerCase(Locale.ROOT);
+            this.path = cookie.hasPath() ? cookie.getPath() : defaultPath(origin.getPath());
+        }
+
+        /** Identity of the cookie in the jar: a cookie replaces the one with the same domain, path and name. */
+        String key() {
+            return domain + ';' + path + ';' + cookie.getName();
+        }
+
+        /** Returns whether the cookie is sent to the URL. */
+        boolean matches(URI uri) {
+            if (!matchesHost(uri.getHost())) {
+                return false;
+            }
+            String requestPath = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+            return requestPath.equals(path) || requestPath.startsWith(path.endsWith("/") ? path : path + "/");
+        }
+
+        /** Returns whether the cookie applies to the host: the same host, or a subdomain of its {@code Domain}. */
+        boolean matchesHost(String host) {
+            if (host == null) {
+                return false;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            return host.equals(domain) || !hostOnly && host.endsWith("." + domain);
+        }
+
+        /** Default path of a cookie without a {@code Path} attribute: the directory of the request path. */
+        private static String defaultPath(String requestPath) {
+            int slash = requestPath == null ? -1 : requestPath.lastIndexOf('/');
+            return slash <= 0 ? "/" : requestPath.substring(0, slash);
+        }
+    }
+}
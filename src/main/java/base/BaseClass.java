@@ -1,7 +1,10 @@
 package base;
 
+import org.testng.ITestContext;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
 
+import api.ApiClient;
 import config.ConfigReader;
 import constants.ConfigPropertiesKey;
 import driver.DriverManager;
@@ -16,8 +19,8 @@ import utils.ExcelUtils;
  *
  * <p><b>Responsibilities:</b></p>
  * <ul>
- *   <li>Launches browser and navigates to the base URL before each test</li>
- *   <li>Closes Excel workbook and quits browser after each test</li>
+ *   <li>Launches the configured browser (or the test's browser matrix entry) and navigates to the base URL before each test</li>
+ *   <li>Closes Excel workbook and quits browser after each test (or resets it for a retry)</li>
  * </ul>
  *
  * <p><b>Usage:</b></p>
@@ -42,31 +45,51 @@ public class BaseClass {
     /**
      * Sets up browser and navigates to the configured base URL before each test method.
      * <p>
-     * Reads the base URL from {@code config.properties} using {@link ConfigReader}.
+     * Activates the configuration overrides of the current TestNG {@code <test>} (its
+     * {@code <parameter>} values whose names are configuration keys, e.g. {@code headless}),
+     * then reads the base URL using {@link ConfigReader}.
      * </p>
+     *
+     * @param context The current TestNG test context
      */
     @BeforeMethod(alwaysRun = true)
-    public void setup() {
-        // Initialize WebDriver and navigate to base URL
+    public void setup(ITestContext context) {
+        ConfigReader.useTestOverrides(context.getName(), context.getCurrentXmlTest().getLocalParameters());
+
+        // Initialize WebDriver for the test's browser (its matrix entry, if any) and navigate to base URL
         String baseUrl = ConfigReader.getProperty(ConfigPropertiesKey.BASEURL);
-        DriverManager.getDriver().get(baseUrl);
+        DriverManager.initDriver(ConfigReader.getProperty(ConfigPropertiesKey.BROWSER)).get(baseUrl);
 
-        // Initialize Excel utility if test data is used (provide valid file path and sheet name)
+        // Read test data through the shared cache so each sheet is parsed once per suite, not once per test
         // Example:
+        // TestDataTable data = TestDataCache.get(Constants._TestDataFolderPath + File.separator + "TestData.xlsx", "Sheet1");
+        //
+        // Or initialize a per-test Excel utility (provide valid file path and sheet name)
         // excel = new ExcelUtils(Constants._TestDataFolderPath + File.separator + "TestData.xlsx", "Sheet1");
     }
 
     /**
      * Tears down resources after each test method.
      * <p>
-     * Closes the Excel workbook (if initialized) and quits the WebDriver instance.
+     * Closes the Excel workbook (if initialized), quits the WebDriver instance and
+     * removes the thread's API session and configuration overrides. When the attempt is about
+     * to be retried (see {@link listener.RetryAnalyzer}), the browser session is reset instead
+     * of quit, so the retry reuses it.
      * </p>
+     *
+     * @param result The result of the test attempt
      */
     @AfterMethod(alwaysRun = true)
-    public void teardown() {
+    public void teardown(ITestResult result) {
         if (excel != null) {
             excel.closeWorkbook();
         }
-        DriverManager.quitDriver();
+        if (result.wasRetried()) {
+            DriverManager.resetSession();
+        } else {
+            DriverManager.quitDriver();
+        }
+        ApiClient.reset();
+        ConfigReader.clearOverrides();
     }
 }
@@ -0,0 +1,329 @@
+package base;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+
+/**
+ * State of the test running on the current thread: its driver, report and report node,
+ * per-test data and per-test metrics.
+ * <p>
+ * {@link listener.Listener} installs a fresh context before each test's {@code @BeforeMethod}
+ * configuration and clears it after the last {@code @AfterMethod}, so pooled TestNG threads
+ * never keep a finished test's state. {@link driver.DriverManager},
+ * {@link reports.TestManager}, {@link reports.StepTimeline}, {@link config.ConfigReader}
+ * (per-test overrides), {@link api.ApiClient} (session cookies) and
+ * {@code utils.SnapshotUtils} (DOM snapshot) read and write their state here instead of in
+ * separate thread-locals.
+ * </p>
+ *
+ * <p>State bound to the driver rather than the test, such as {@code utils.ElementCache} and
+ * {@code utils.WindowRegistry}, is kept with {@link #setDriverState(Class, Object)}: it is
+ * carried over with a driver that outlives its test and dropped when the driver is quit.</p>
+ *
+ * <p>The context is not inherited by other threads. Wrap work handed to another thread with
+ * {@link #wrap(Runnable)}, {@link #wrap(Callable)}, {@link #wrapSupplier(Supplier)} or
+ * {@link #executor(Executor)}, and the work runs with the submitting test's context, so its
+ * {@link reports.Logger} calls are logged to the test's node and timeline. This works for
+ * platform threads, executors, {@code CompletableFuture}s and virtual threads alike. A
+ * {@link WebDriver} session is not safe for concurrent commands, so work running in
+ * parallel should not use the driver at the same time.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ExecutorService pool = Executors.newFixedThreadPool(4);
+ * Future&lt;Order&gt; order = pool.submit(TestContext.wrap(() -&gt; createOrderViaApi()));
+ * CompletableFuture.runAsync(TestContext.wrap(() -&gt; Logger.info("Seeded catalogue")), pool);
+ * CompletableFuture&lt;User&gt; user = CompletableFuture.supplyAsync(TestContext.wrapSupplier(() -&gt; createUser()), pool);
+ *
+ * TestContext.current().getData().put("orderId", order.get().getId());
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class TestContext {
+
+    /** Context of the test running on, or propagated to, the current thread. */
+    private static final ThreadLocal<TestContext> current = new ThreadLocal<>();
+
+    private volatile WebDriver driver;
+    private volatile ExtentReports report;
+    private volatile ExtentTest node;
+    private volatile boolean finished;
+    private int pendingAfterMethods;
+    private final Map<String, Object> data = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> metrics = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> driverState = new ConcurrentHashMap<>();
+
+    private TestContext() {}
+
+    /**
+     * Returns the current thread's context, creating one if there is none.
+     *
+     * @return The current context
+     */
+    public static TestContext current() {
+        TestContext context = current.get();
+        if (context == null) {
+            context = new TestContext();
+            current.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns the current thread's context without creating one.
+     *
+     * @return The current context, or {@code null}
+     */
+    public static TestContext get() {
+        return current.get();
+    }
+
+    /**
+     * Starts a fresh context for a new test on the current thread.
+     * <p>
+     * The previous context is kept if it belongs to a test that has not finished yet, for
+     * example one whose driver was opened by an earlier {@code @BeforeMethod}. A driver the
+     * previous test did not quit is carried over, as it would be reused by
+     * {@link driver.DriverManager#initDriver(String)} anyway.
+     * </p>
+     */
+    public static void begin() {
+        TestContext previous = current.get();
+        if (previous == null || previous.finished) {
+            clear();
+            current();
+        }
+    }
+
+    /**
+     * Clears the current thread's context. A driver that is still open is kept, with its
+     * driver state, in an otherwise empty context, so it can still be quit or reused.
+     */
+    public static void clear() {
+        TestContext previous = current.get();
+        current.remove();
+        if (previous != null && previous.driver != null) {
+            TestContext next = current();
+            next.driver = previous.driver;
+            next.driverState.putAll(previous.driverState);
+        }
+    }
+
+    /**
+     * Returns a task that runs with the current thread's context installed.
+     *
+     * @param task The task
+     * @return The wrapped task; the task itself if there is no current context
+     */
+    public static Runnable wrap(Runnable task) {
+        final TestContext context = current.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            TestContext outer = install(context);
+            try {
+                task.run();
+            } finally {
+                restore(outer);
+            }
+        };
+    }
+
+    /**
+     * Returns a task that runs with the current thread's context installed.
+     *
+     * @param task The task
+     * @param <T>  The task's result type
+     * @return The wrapped task; the task itself if there is no current context
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        final TestContext context = current.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            TestContext outer = install(context);
+            try {
+                return task.call();
+            } finally {
+                restore(outer);
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier that runs with the current thread's context installed, for
+     * {@code CompletableFuture.supplyAsync}.
+     *
+     * @param supplier The supplier
+     * @param <T>      The supplied type
+     * @return The wrapped supplier; the supplier itself if there is no current context
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        final TestContext context = current.get();
+        if (context == null) {
+            return supplier;
+        }
+        return () -> {
+            TestContext outer = install(context);
+            try {
+                return supplier.get();
+            } finally {
+                restore(outer);
+            }
+        };
+    }
+
+    /**
+     * Returns an executor that runs every task with the context of the thread submitting it.
+     *
+     * @param executor The executor to delegate to
+     * @return The propagating executor
+     */
+    public static Executor executor(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    private static TestContext install(TestContext context) {
+        TestContext outer = current.get();
+        current.set(context);
+        return outer;
+    }
+
+    private static void restore(TestContext outer) {
+        if (outer == null) {
+            current.remove();
+        } else {
+            current.set(outer);
+        }
+    }
+
+    /** Returns the test's driver, or {@code null}. */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /** Sets the test's driver; {@code null} once it has been quit, which also drops the driver state. */
+    public void setDriver(WebDriver driver) {
+        this.driver = driver;
+        if (driver == null) {
+            driverState.clear();
+        }
+    }
+
+    /** Returns the report the test's node belongs to, or {@code null}. */
+    public ExtentReports getReport() {
+        return report;
+    }
+
+    /** Sets the report the test's node belongs to. */
+    public void setReport(ExtentReports report) {
+        this.report = report;
+    }
+
+    /** Returns the test's report node, or {@code null}. */
+    public ExtentTest getNode() {
+        return node;
+    }
+
+    /** Sets the test's report node. */
+    public void setNode(ExtentTest node) {
+        this.node = node;
+    }
+
+    /** Returns the test's data, shared by every thread the context is propagated to. */
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    /**
+     * Returns a per-test metrics object, for example the test's step timeline.
+     *
+     * @param type The metrics type, used as the key
+     * @param <T>  The metrics type
+     * @return The metrics object, or {@code null}
+     */
+    public <T> T getMetrics(Class<T> type) {
+        return type.cast(metrics.get(type));
+    }
+
+    /**
+     * Sets or, with {@code null}, removes a per-test metrics object.
+     *
+     * @param type  The metrics type, used as the key
+     * @param value The metrics object
+     * @param <T>   The metrics type
+     */
+    public <T> void setMetrics(Class<T> type, T value) {
+        if (value == null) {
+            metrics.remove(type);
+        } else {
+            metrics.put(type, value);
+        }
+    }
+
+    /**
+     * Returns state bound to the test's driver, for example its element cache.
+     *
+     * @param type The state type, used as the key
+     * @param <T>  The state type
+     * @return The state object, or {@code null}
+     */
+    public <T> T getDriverState(Class<T> type) {
+        return type.cast(driverState.get(type));
+    }
+
+    /**
+     * Sets or, with {@code null}, removes state bound to the test's driver. It is kept while
+     * the driver stays open, even across {@link #clear()}.
+     *
+     * @param type  The state type, used as the key
+     * @param value The state object
+     * @param <T>   The state type
+     */
+    public <T> void setDriverState(Class<T> type, T value) {
+        if (value == null) {
+            driverState.remove(type);
+        } else {
+            driverState.put(type, value);
+        }
+    }
+
+    /**
+     * Marks the current thread's test as finished; the next {@link #begin()} on this thread
+     * starts a fresh context. Without {@code @AfterMethod} configurations left to run, the
+     * context is cleared right away.
+     *
+     * @param afterMethods The number of {@code @AfterMethod} configurations still to run
+     */
+    public static void finish(int afterMethods) {
+        TestContext context = current.get();
+        if (context == null) {
+            return;
+        }
+        context.finished = true;
+        context.pendingAfterMethods = afterMethods;
+        if (afterMethods <= 0) {
+            clear();
+        }
+    }
+
+    /** Counts a completed {@code @AfterMethod} configuration and clears the context after the last one. */
+    public static void afterMethodCompleted() {
+        TestContext context = current.get();
+        if (context != null && context.finished && --context.pendingAfterMethods <= 0) {
+            clear();
+        }
+    }
+}
@@ -1,29 +1,55 @@
 package config;
 
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
+import base.TestContext;
 import constants.ConfigPropertiesKey;
 import constants.Constants;
 
 /**
- * Utility class to read configuration properties from a properties file.
+ * Utility class to read configuration properties.
  * <p>
- * This class loads the properties file specified in {@link Constants#_ConfigPropertiesFilePath}
- * and provides a method to retrieve property values using {@link ConfigPropertiesKey}.
- * The class is designed as a singleton-like utility with a private constructor and static methods.
+ * On first use, this class builds an immutable {@link ConfigSnapshot} from the properties
+ * file specified in {@link Constants#_ConfigPropertiesFilePath}, then environment variables
+ * ({@code AUTOMATION_<KEY>}), then {@code -D} system properties. Every value is parsed to
+ * the type declared by its {@link ConfigPropertiesKey} once, and invalid values fail
+ * immediately. The class is designed as a singleton-like utility with a private
+ * constructor and static methods.
  * </p>
- * 
+ *
+ * <p><b>Per-test overrides:</b> each test can activate an override layer, for example
+ * the {@code <parameter>} values of its TestNG {@code <test>} (see
+ * {@link #useTestOverrides(String, Map)}). Layers are built once per test name and share
+ * the base snapshot instead of copying it. The active layer is kept in the test's
+ * {@link TestContext}, so it ends with the test and is seen by workers started through
+ * {@link TestContext#wrap(Runnable)}.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * boolean headless = ConfigReader.getBoolean(ConfigPropertiesKey.HEADLESS);
+ * int timeout = ConfigReader.getInt(ConfigPropertiesKey.WAITTIMEOUT);
+ * String baseUrl = ConfigReader.getProperty(ConfigPropertiesKey.BASEURL);
+ * </pre>
+ *
  * @author 
  * @version 1.0
  */
 public class ConfigReader {
 
-    /** Holds the loaded configuration properties */
-    private static Properties properties = new Properties();
-    
+    /** The base snapshot: file, environment and system property layers. */
+    private static final ConfigSnapshot snapshot = ConfigSnapshot.load(
+            loadConfigFile(), System.getenv(), System.getProperties());
+
+    /** Override layers keyed by TestNG {@code <test>} name. */
+    private static final Map<String, ConfigSnapshot> testLayers = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to prevent instantiation.
      * <p>
@@ -31,27 +57,69 @@ public class ConfigReader {
      * </p>
      */
     private ConfigReader() {}
-    
-    // Static block to automatically load properties when the class is first loaded
-    static {
-        loadConfigFile();
-    }
-    
+
     /**
-     * Loads the configuration properties file into memory.
+     * Loads the configuration properties file.
      * <p>
      * The properties file path is defined in {@link Constants#_ConfigPropertiesFilePath}.
-     * If the file is not found or cannot be loaded, the stack trace is printed.
+     * A missing file is reported and treated as empty, so configuration can come from the
+     * environment and system properties alone; any other read error fails immediately.
      * </p>
      */
-    private static void loadConfigFile() {
-        try {
-            properties.load(new FileInputStream(Constants._ConfigPropertiesFilePath));
+    private static Properties loadConfigFile() {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(Constants._ConfigPropertiesFilePath)) {
+            properties.load(in);
+        } catch (FileNotFoundException e) {
+            System.err.println("[ConfigReader] Properties file not found: " + Constants._ConfigPropertiesFilePath);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new IllegalStateException("Unable to read properties file: " + Constants._ConfigPropertiesFilePath, e);
         }
+        return properties;
     }
-    
+
+    /**
+     * Returns the configuration snapshot active for the current test.
+     *
+     * @return The current test's override layer, or the base snapshot
+     */
+    public static ConfigSnapshot getSnapshot() {
+        TestContext context = TestContext.get();
+        ConfigSnapshot layer = context == null ? null : context.getMetrics(ConfigSnapshot.class);
+        return layer != null ? layer : snapshot;
+    }
+
+    /**
+     * Activates the override layer of a TestNG {@code <test>} for the current test. The
+     * layer is built from the parameters on the first call for the test name and reused
+     * afterwards; parameters that are not configuration keys are ignored.
+     *
+     * @param testName   The {@code <test>} name
+     * @param parameters The {@code <test>} parameters, for example {@code XmlTest.getLocalParameters()}
+     */
+    public static void useTestOverrides(String testName, final Map<String, String> parameters) {
+        TestContext.current().setMetrics(ConfigSnapshot.class, testLayers.computeIfAbsent(testName,
+                name -> snapshot.withOverrides(parameters, "<test name=\"" + name + "\"> parameter")));
+    }
+
+    /**
+     * Activates an ad-hoc override layer for the current test, on top of the active layer.
+     *
+     * @param overrides Property key → value (keys as in {@code config.properties})
+     */
+    public static void setOverrides(Map<String, String> overrides) {
+        ConfigSnapshot layer = getSnapshot().withOverrides(overrides, "override");
+        TestContext.current().setMetrics(ConfigSnapshot.class, layer);
+    }
+
+    /** Removes the override layer of the current test. */
+    public static void clearOverrides() {
+        TestContext context = TestContext.get();
+        if (context != null) {
+            context.setMetrics(ConfigSnapshot.class, null);
+        }
+    }
+
     /**
      * Retrieves the value of a configuration property based on the provided key.
      *
@@ -62,7 +130,31 @@ public class ConfigReader {
     	if(Objects.isNull(key.getKey()) || key.getKey()=="")
     		throw new IllegalArgumentException("The Property Key"+key.getKey() +"is invalid. Please enter valid key. Check "
     				+ "Properties file : "+Constants._ConfigPropertiesFilePath);
-        return properties.getProperty(key.getKey());
+        return getSnapshot().getString(key);
+    }
+
+    /** Returns a boolean property, or {@code false} if it is not set. */
+    public static boolean getBoolean(ConfigPropertiesKey key) {
+        return getSnapshot().getBoolean(key);
+    }
+
+    /**
+     * Returns an integer property.
+     *
+     * @throws IllegalStateException if the property is not set
+     */
+    public static int getInt(ConfigPropertiesKey key) {
+        return getSnapshot().getInt(key);
+    }
+
+    /** Returns an integer property, or the default if it is not set. */
+    public static int getInt(ConfigPropertiesKey key, int defaultValue) {
+        return getSnapshot().getInt(key, defaultValue);
+    }
+
+    /** Returns a long property, or the default if it is not set. */
+    public static long getLong(ConfigPropertiesKey key, long defaultValue) {
+        return getSnapshot().getLong(key, defaultValue);
     }
     
 }
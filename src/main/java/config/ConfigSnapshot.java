@@ -0,0 +1,244 @@
+package config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import constants.ConfigPropertiesKey;
+
+/**
+ * Immutable, typed view of the framework configuration.
+ * <p>
+ * A snapshot holds every {@link ConfigPropertiesKey} already parsed to its declared type,
+ * so reading a value is a single map lookup with no string parsing. Values are validated
+ * when the snapshot is built, and an invalid value from any layer fails immediately with the
+ * key, the value and the layer it came from. The one exception is {@code -Dparallel}, which
+ * Surefire and TestNG read too: a parallel mode there, such as {@code -Dparallel=methods},
+ * is reported as a warning and leaves the {@code parallel} key unchanged.
+ * </p>
+ *
+ * <p><b>Layers</b> (later layers win):</p>
+ * <ul>
+ *   <li>{@code config.properties}</li>
+ *   <li>Environment variables, named {@code AUTOMATION_<KEY>} (for example {@code AUTOMATION_HEADLESS})</li>
+ *   <li>System properties ({@code -Dheadless=true})</li>
+ *   <li>Override layers created with {@link #withOverrides(Map, String)}, for example per TestNG {@code <test>}</li>
+ * </ul>
+ *
+ * <p>An override layer stores only its own values and delegates every other lookup to its
+ * parent, so creating one per test does not copy the configuration.</p>
+ *
+ * <p>Usually accessed through the static methods of {@link ConfigReader}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class ConfigSnapshot {
+
+    /** Surefire's and TestNG's {@code parallel} modes, which share {@code -Dparallel} with the {@code parallel} key. */
+    private static final Set<String> PARALLEL_MODES = new HashSet<>(Arrays.asList("methods", "classes", "tests",
+            "instances", "suites", "both", "all", "none", "classesandmethods", "suitesandclasses", "suitesandmethods"));
+
+    /** The layer this snapshot overrides, or {@code null} for the base snapshot. */
+    private final ConfigSnapshot parent;
+
+    /** Parsed values set by this layer. */
+    private final Map<ConfigPropertiesKey, Object> values;
+
+    /** Name of the layer each value of this layer came from, used in error messages. */
+    private final Map<ConfigPropertiesKey, String> sources;
+
+    private ConfigSnapshot(ConfigSnapshot parent, Map<ConfigPropertiesKey, Object> values,
+            Map<ConfigPropertiesKey, String> sources) {
+        this.parent = parent;
+        this.values = values;
+        this.sources = sources;
+    }
+
+    /**
+     * Builds the base snapshot from the properties file, the environment and the system properties.
+     *
+     * @param file        The properties loaded from {@code config.properties}
+     * @param environment The environment variables
+     * @param system      The system properties
+     * @return The base snapshot
+     * @throws IllegalStateException if a value in any layer cannot be parsed to its key's type
+     */
+    public static ConfigSnapshot load(Properties file, Map<String, String> environment, Properties system) {
+        Map<ConfigPropertiesKey, Object> values = new EnumMap<>(ConfigPropertiesKey.class);
+        Map<ConfigPropertiesKey, String> sources = new EnumMap<>(ConfigPropertiesKey.class);
+        for (ConfigPropertiesKey key : ConfigPropertiesKey.values()) {
+            put(values, sources, key, file.getProperty(key.getKey()), "config.properties");
+            put(values, sources, key, environment.get(key.getEnvironmentVariable()),
+                    "environment variable " + key.getEnvironmentVariable());
+            String property = system.getProperty(key.getKey());
+            if (key == ConfigPropertiesKey.PARALLEL && isParallelMode(property)) {
+                System.err.println("[ConfigReader] Ignoring -Dparallel=" + property.trim()
+                        + ": a Surefire/TestNG parallel mode, not a value for 'parallel' (true or false)");
+            } else {
+                put(values, sources, key, property, "system property -D" + key.getKey());
+            }
+        }
+        return new ConfigSnapshot(null, values, sources);
+    }
+
+    /**
+     * Returns a layer on top of this snapshot with the given overrides. Entries whose names
+     * are not configuration keys are ignored, so a whole TestNG parameter map can be passed.
+     *
+     * @param overrides Property key → value (keys as in {@code config.properties})
+     * @param layerName Name of the layer, used in error messages
+     * @return This snapshot if no entry overrides a key, otherwise the new layer
+     * @throws IllegalStateException if a value cannot be parsed to its key's type
+     */
+    public ConfigSnapshot withOverrides(Map<String, String> overrides, String layerName) {
+        Map<ConfigPropertiesKey, Object> layerValues = new EnumMap<>(ConfigPropertiesKey.class);
+        Map<ConfigPropertiesKey, String> layerSources = new EnumMap<>(ConfigPropertiesKey.class);
+        for (ConfigPropertiesKey key : ConfigPropertiesKey.values()) {
+            put(layerValues, layerSources, key, overrides.get(key.getKey()), layerName);
+        }
+        return layerValues.isEmpty() ? this : new ConfigSnapshot(this, layerValues, layerSources);
+    }
+
+    /**
+     * Returns the parsed value of a key.
+     *
+     * @param key The configuration key
+     * @return The value as its declared type, or {@code null} if it is not set in any layer
+     */
+    public Object get(ConfigPropertiesKey key) {
+        for (ConfigSnapshot layer = this; layer != null; layer = layer.parent) {
+            Object value = layer.values.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the layer that supplies the value of a key.
+     *
+     * @param key The configuration key
+     * @return The layer name, or {@code null} if the key is not set
+     */
+    public String getSource(ConfigPropertiesKey key) {
+        for (ConfigSnapshot layer = this; layer != null; layer = layer.parent) {
+            if (layer.values.containsKey(key)) {
+                return layer.sources.get(key);
+            }
+        }
+        return null;
+    }
+
+    /** Returns the value of a key as text, or {@code null} if it is not set. */
+    public String getString(ConfigPropertiesKey key) {
+        Object value = get(key);
+        return value == null ? null : value.toString();
+    }
+
+    /** Returns a boolean key, or {@code false} if it is not set. */
+    public boolean getBoolean(ConfigPropertiesKey key) {
+        return Boolean.TRUE.equals(typed(key, Boolean.class));
+    }
+
+    /**
+     * Returns an integer key.
+     *
+     * @throws IllegalStateException if the key is not set
+     */
+    public int getInt(ConfigPropertiesKey key) {
+        return required(key, typed(key, Integer.class));
+    }
+
+    /** Returns an integer key, or the default if it is not set. */
+    public int getInt(ConfigPropertiesKey key, int defaultValue) {
+        Integer value = typed(key, Integer.class);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Returns a long key.
+     *
+     * @throws IllegalStateException if the key is not set
+     */
+    public long getLong(ConfigPropertiesKey key) {
+        return required(key, typed(key, Long.class));
+    }
+
+    /** Returns a long key, or the default if it is not set. */
+    public long getLong(ConfigPropertiesKey key, long defaultValue) {
+        Long value = typed(key, Long.class);
+        return value == null ? defaultValue : value;
+    }
+
+    /** Returns all keys that are set and their values as text, in declaration order. */
+    public Map<ConfigPropertiesKey, String> asMap() {
+        Map<ConfigPropertiesKey, String> map = new EnumMap<>(ConfigPropertiesKey.class);
+        for (ConfigPropertiesKey key : ConfigPropertiesKey.values()) {
+            String value = getString(key);
+            if (value != null) {
+                map.put(key, value);
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private <T> T typed(ConfigPropertiesKey key, Class<T> type) {
+        if (key.getType() != type) {
+            throw new IllegalArgumentException("Property '" + key.getKey() + "' is a " + key.getType().getSimpleName()
+                    + ", not a " + type.getSimpleName());
+        }
+        return type.cast(get(key));
+    }
+
+    private static <T> T required(ConfigPropertiesKey key, T value) {
+        if (value == null) {
+            throw new IllegalStateException("Required property '" + key.getKey() + "' is not set in config.properties, "
+                    + key.getEnvironmentVariable() + " or -D" + key.getKey());
+        }
+        return value;
+    }
+
+    /** Parses a raw value and records it in the layer, ignoring blank values. */
+    private static void put(Map<ConfigPropertiesKey, Object> values, Map<ConfigPropertiesKey, String> sources,
+            ConfigPropertiesKey key, String raw, String source) {
+        if (raw == null || raw.trim().isEmpty()) {
+            return;
+        }
+        values.put(key, parse(key, raw.trim(), source));
+        sources.put(key, source);
+    }
+
+    /** Returns whether a {@code -Dparallel} value is one of Surefire's or TestNG's parallel modes. */
+    private static boolean isParallelMode(String raw) {
+        return raw != null && PARALLEL_MODES.contains(raw.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static Object parse(ConfigPropertiesKey key, String raw, String source) {
+        try {
+            if (key.getType() == Boolean.class) {
+                String value = raw.toLowerCase(Locale.ROOT);
+                if (!value.equals("true") && !value.equals("false")) {
+                    throw new IllegalArgumentException("expected true or false");
+                }
+                return Boolean.valueOf(value);
+            }
+            if (key.getType() == Integer.class) {
+                return Integer.valueOf(raw);
+            }
+            if (key.getType() == Long.class) {
+                return Long.valueOf(raw);
+            }
+            return raw;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid value '" + raw + "' for property '" + key.getKey() + "' from "
+                    + source + ": expected a value of type " + key.getType().getSimpleName(), e);
+        }
+    }
+}
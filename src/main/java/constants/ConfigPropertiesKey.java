@@ -4,7 +4,8 @@ package constants;
  * Enum representing the keys used in the configuration properties file.
  * <p>
  * Each enum constant corresponds to a property key that can be retrieved
- * using {@link config.ConfigReader#getProperty(ConfigPropertiesKey)}.
+ * using {@link config.ConfigReader#getProperty(ConfigPropertiesKey)}, and declares the
+ * type its value is parsed to (and validated against) when the configuration is loaded.
  * </p>
  * 
  * @version 1.0
@@ -17,12 +18,21 @@ public enum ConfigPropertiesKey {
     /** Browser type (e.g., chrome, firefox) */
     BROWSER("browser"),
 
+    /** Comma-separated browsers to run every test on concurrently (browser matrix), e.g. chrome,firefox,edge */
+    BROWSERS("browsers"),
+
     /** URL of the Selenium Grid hub */
     GRIDURL("gridURL"),
 
     /** Base URL of the application under test */
     BASEURL("baseURL"),
 
+    /** Base URL of the application's HTTP API used to seed test state */
+    APIBASEURL("apiBaseURL"),
+
+    /** Maximum number of pooled keep-alive connections shared by all API calls */
+    APIMAXCONNECTIONS("apiMaxConnections", Integer.class),
+
     /** Title of the test report */
     REPORTTITLE("reportTitle"),
 
@@ -30,27 +40,74 @@ public enum ConfigPropertiesKey {
     REPORTNAME("reportName"),
 
     /** Whether parallel execution is enabled */
-    PARALLEL("parallel"),
+    PARALLEL("parallel", Boolean.class),
 
     /** Number of threads to use for parallel execution */
-    THREADCOUNT("threadCount"),
+    THREADCOUNT("threadCount", Integer.class),
 
     /** Whether to run the browser in headless mode */
-    HEADLESS("headless"),
+    HEADLESS("headless", Boolean.class),
 
     /** Implicit wait timeout in seconds */
-    WAITTIMEOUT("implicitWait");
+    WAITTIMEOUT("implicitWait", Integer.class),
+
+    /** Whether per-locator wait timeouts are derived from recorded wait statistics */
+    ADAPTIVEWAIT("adaptiveWait", Boolean.class),
+
+    /** Margin in milliseconds added to the observed p99 wait time of a locator */
+    ADAPTIVEWAITMARGIN("adaptiveWaitMargin", Long.class),
+
+    /** Minimum number of recorded samples before an adaptive timeout is applied */
+    ADAPTIVEWAITMINSAMPLES("adaptiveWaitMinSamples", Integer.class),
+
+    /** Whether DriverUtils reuses resolved elements per page (element cache) */
+    ELEMENTCACHE("elementCache", Boolean.class),
+
+    /** Maximum size in MB of parsed test data shared across tests */
+    TESTDATACACHEMAXMB("testDataCacheMaxMB", Long.class),
+
+    /** Whether exceeded page performance budgets fail the test (otherwise they are logged as warnings) */
+    PERFORMANCEBUDGETS("enforcePerformanceBudgets", Boolean.class),
+
+    /** Whether DriverUtils element actions and WaitUtils waits are recorded as steps of the test's timeline */
+    TRACEUTILITYCALLS("traceUtilityCalls", Boolean.class),
+
+    /** Localhost port of the live OpenMetrics endpoint; 0 disables it */
+    METRICSPORT("metricsPort", Integer.class),
+
+    /** Whether failed tests are retried according to their flakiness history */
+    RETRYFLAKYTESTS("retryFlakyTests", Boolean.class),
+
+    /** Maximum number of retries of a flaky test */
+    MAXRETRIES("maxRetries", Integer.class),
+
+    /** Whether tests that failed in the previous run are run first */
+    RUNFAILEDFIRST("runFailedFirst", Boolean.class);
     
     /** The string key corresponding to the property in the config file */
     private final String key;
 
+    /** The type the value is parsed to: {@link String}, {@link Boolean}, {@link Integer} or {@link Long} */
+    private final Class<?> type;
+
     /**
      * Constructor to initialize the enum with the corresponding property key.
      *
      * @param key The property key as a {@link String}
      */
     ConfigPropertiesKey(String key) {
+        this(key, String.class);
+    }
+
+    /**
+     * Constructor to initialize the enum with the corresponding property key and value type.
+     *
+     * @param key  The property key as a {@link String}
+     * @param type The type the value is parsed to
+     */
+    ConfigPropertiesKey(String key, Class<?> type) {
         this.key = key;
+        this.type = type;
     }
 
     /**
@@ -61,5 +118,24 @@ public enum ConfigPropertiesKey {
     public String getKey() {
         return key;
     }
+
+    /**
+     * Retrieves the type the value of this property is parsed to.
+     *
+     * @return {@link String}, {@link Boolean}, {@link Integer} or {@link Long}
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the environment variable that overrides this property, for example
+     * {@code AUTOMATION_HEADLESS} for {@link #HEADLESS}.
+     *
+     * @return The environment variable name
+     */
+    public String getEnvironmentVariable() {
+        return "AUTOMATION_" + name();
+    }
     
 }
@@ -39,15 +39,33 @@ public class Constants {
     /** Folder path to store test reports */
     public static String _ReportsFolderPath = _ProjectPath + _Seperator + "Reports";
 
+    /** Folder path to store statistics and history files that persist across runs */
+    public static String _HistoryFolderPath = _ReportsFolderPath + _Seperator + "History";
+
+    /** Full path to the persistent per-locator wait statistics file */
+    public static String _WaitStatisticsFilePath = _HistoryFolderPath + _Seperator + "wait-statistics.json";
+
+    /** Full path to the persistent per-test outcome and flakiness history */
+    public static String _TestHistoryFilePath = _HistoryFolderPath + _Seperator + "test-history.json";
+
+    /** Full path to the history of page performance metrics, appended to on every measurement */
+    public static String _PerformanceHistoryFilePath = _HistoryFolderPath + _Seperator + "performance-history.csv";
+
     /** Folder path to store screenshots */
     public static String _ScreenShotsFolderPath = _ProjectPath + _Seperator + "ScreenShots";
 
     /** Full path to the configuration properties file */
-    public static String _ConfigPropertiesFilePath = _TestResourcePath + _Seperator + "config.properties";
+    public static String _ConfigPropertiesFilePath = _TestResourcePath + _Seperator + "config" + _Seperator + "config.properties";
+
+    /** Full path to the per-page performance budgets file */
+    public static String _PerformanceBudgetsFilePath = _TestResourcePath + _Seperator + "config" + _Seperator + "performance-budgets.properties";
 
     /** Folder path containing test data files */
     public static String _TestDataFolderPath = _TestResourcePath + _Seperator + "testdatas";
 
+    /** Folder path of the binary test data files generated at build time by {@code utils.TestDataCompiler} */
+    public static String _CompiledTestDataFolderPath = _ProjectPath + _Seperator + "target" + _Seperator + "compiled-testdata";
+
     /** Folder path containing feature files for Cucumber tests */
     public static String _FeatureFileFolderPth = _TestResourcePath + _Seperator + "features";
 
@@ -0,0 +1,152 @@
+package datasource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link DataSourceProvider} for comma-separated files ({@code .csv}).
+ * <p>
+ * Parses RFC 4180 records with a single-pass character reader: quoted fields may contain
+ * commas, line breaks and doubled quotes. The first record holds the headers; blank lines
+ * are skipped, missing trailing fields are returned as empty strings and a leading UTF-8
+ * byte order mark is ignored. The name argument is not used.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class CsvDataSourceProvider implements DataSourceProvider {
+
+    @Override
+    public String[] getExtensions() {
+        return new String[] {"csv"};
+    }
+
+    @Override
+    public DataSource open(String filePath, String name) {
+        try {
+            return new CsvDataSource(Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8), filePath);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open CSV file: " + e.getMessage(), e);
+        }
+    }
+
+    /** Streaming CSV reader. */
+    private static class CsvDataSource implements DataSource {
+
+        private final BufferedReader reader;
+        private final List<String> headers;
+        private final StringBuilder field = new StringBuilder();
+        private List<String> nextRecord;
+
+        CsvDataSource(BufferedReader reader, String filePath) throws IOException {
+            this.reader = reader;
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') {
+                reader.reset();
+            }
+            List<String> first = readRecord();
+            if (first == null) {
+                close();
+                throw new RuntimeException("No header row found in CSV file: " + filePath);
+            }
+            headers = Collections.unmodifiableList(first);
+            nextRecord = readRecord();
+        }
+
+        @Override
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException("No more rows in CSV file");
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < headers.size(); i++) {
+                row.put(headers.get(i), i < nextRecord.size() ? nextRecord.get(i) : "");
+            }
+            try {
+                nextRecord = readRecord();
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read CSV file: " + e.getMessage(), e);
+            }
+            return row;
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        /** Reads the next non-blank record, or returns {@code null} at the end of the file. */
+        private List<String> readRecord() throws IOException {
+            List<String> values = new ArrayList<>();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean blank = true;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                    } else {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                    blank = false;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                    blank = false;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    if (!blank || field.length() > 0) {
+                        values.add(field.toString());
+                        return values;
+                    }
+                } else {
+                    field.append((char) c);
+                    blank = false;
+                }
+            }
+            if (blank && field.length() == 0) {
+                return null;
+            }
+            values.add(field.toString());
+            return values;
+        }
+    }
+}
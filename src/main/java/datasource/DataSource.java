@@ -0,0 +1,31 @@
+package datasource;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader of tabular test data, one row at a time.
+ * <p>
+ * Every supported format (Excel, CSV, JSON, YAML) is exposed through this interface:
+ * the column headers are known once the source is opened, and each call to
+ * {@link #next()} returns one row as a map of column header to value. Only the current
+ * row is held in memory. Sources must be closed when no longer needed.
+ * </p>
+ *
+ * <p>Open sources through {@link DataSources#open(String, String)}, which picks the
+ * {@link DataSourceProvider} for the file's format.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public interface DataSource extends Iterator<Map<String, String>>, Closeable {
+
+    /** Returns the column headers in source order. */
+    List<String> getHeaders();
+
+    /** Releases the underlying file. Does not throw checked exceptions. */
+    @Override
+    void close();
+}
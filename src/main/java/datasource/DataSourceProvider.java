@@ -0,0 +1,34 @@
+package datasource;
+
+/**
+ * Service provider interface for a test data file format.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}: list the class name
+ * in {@code META-INF/services/datasource.DataSourceProvider} and it becomes available to
+ * {@link DataSources}, {@link utils.TestDataCache} and {@link utils.ExcelDataProvider}
+ * without any further changes. The built-in providers cover Excel, CSV, JSON and YAML.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public interface DataSourceProvider {
+
+    /**
+     * Returns the file extensions handled by this provider, lower-case and without the dot.
+     *
+     * @return The extensions, for example {@code {"yaml", "yml"}}
+     */
+    String[] getExtensions();
+
+    /**
+     * Opens a file for streaming.
+     *
+     * @param filePath The path to the file
+     * @param name     The sheet or section to read, or {@code null} for the default; formats
+     *                 without sections ignore it
+     * @return The opened {@link DataSource}
+     * @throws RuntimeException if the file cannot be opened or is not in the expected shape
+     */
+    DataSource open(String filePath, String name);
+}
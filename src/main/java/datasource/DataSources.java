@@ -0,0 +1,109 @@
+package datasource;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import utils.TestDataTable;
+
+/**
+ * Entry point of the data source SPI.
+ * <p>
+ * Loads the registered {@link DataSourceProvider}s once and opens files with the provider
+ * registered for their extension, so tests read Excel, CSV, JSON and YAML fixtures through
+ * the same row-iterator ({@link DataSource}) and index ({@link TestDataTable}) APIs.
+ * </p>
+ *
+ * <p><b>Supported formats:</b></p>
+ * <ul>
+ *   <li>{@code .xlsx} – one sheet per name, first row holds the headers</li>
+ *   <li>{@code .csv} – RFC 4180, first record holds the headers</li>
+ *   <li>{@code .json} – an array of objects, or an object whose named field is such an array</li>
+ *   <li>{@code .yaml}/{@code .yml} – a sequence of mappings, or a mapping whose named key is such a sequence</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * try (DataSource rows = DataSources.open("testdata/Orders.csv", null)) {
+ *     while (rows.hasNext()) {
+ *         Map&lt;String, String&gt; row = rows.next();
+ *     }
+ * }
+ * TestDataTable users = DataSources.readTable("testdata/Users.yaml", "users");
+ * Map&lt;String, String&gt; admin = users.getRowByKey("Role", "admin");
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class DataSources {
+
+    /** Providers keyed by file extension; later registrations win. */
+    private static final Map<String, DataSourceProvider> providers = loadProviders();
+
+    /** Private constructor to prevent instantiation. */
+    private DataSources() {}
+
+    /**
+     * Opens a file with the provider registered for its extension.
+     *
+     * @param filePath The path to the file
+     * @param name     The sheet or section to read, or {@code null} for the default
+     * @return The opened {@link DataSource}
+     * @throws IllegalArgumentException if no provider supports the file's extension
+     */
+    public static DataSource open(String filePath, String name) {
+        return providerFor(filePath).open(filePath, name);
+    }
+
+    /**
+     * Reads a whole file into an immutable, indexable {@link TestDataTable}.
+     *
+     * @param filePath The path to the file
+     * @param name     The sheet or section to read, or {@code null} for the default
+     * @return The table
+     */
+    public static TestDataTable readTable(String filePath, String name) {
+        try (DataSource source = open(filePath, name)) {
+            return TestDataTable.of(source.getHeaders(), source);
+        }
+    }
+
+    /** Returns whether a provider is registered for the file's extension. */
+    public static boolean isSupported(String filePath) {
+        return providers.containsKey(extensionOf(filePath));
+    }
+
+    /** Returns the registered extensions and their providers. */
+    public static Map<String, DataSourceProvider> getProviders() {
+        return Collections.unmodifiableMap(providers);
+    }
+
+    private static DataSourceProvider providerFor(String filePath) {
+        DataSourceProvider provider = providers.get(extensionOf(filePath));
+        if (provider == null) {
+            throw new IllegalArgumentException("No data source provider for file: " + filePath
+                    + " (supported: " + providers.keySet() + ")");
+        }
+        return provider;
+    }
+
+    private static String extensionOf(String filePath) {
+        String name = new File(filePath).getName();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, DataSourceProvider> loadProviders() {
+        Map<String, DataSourceProvider> loaded = new LinkedHashMap<>();
+        for (DataSourceProvider provider : ServiceLoader.load(DataSourceProvider.class, DataSources.class.getClassLoader())) {
+            for (String extension : provider.getExtensions()) {
+                loaded.put(extension.toLowerCase(Locale.ROOT), provider);
+            }
+        }
+        return loaded;
+    }
+}
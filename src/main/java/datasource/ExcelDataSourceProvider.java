@@ -0,0 +1,23 @@
+package datasource;
+
+import utils.ExcelStreamReader;
+
+/**
+ * {@link DataSourceProvider} for Excel workbooks ({@code .xlsx}), backed by the
+ * constant-memory {@link ExcelStreamReader}. A {@code null} name reads the first sheet.
+ *
+ * @author
+ * @version 1.0
+ */
+public class ExcelDataSourceProvider implements DataSourceProvider {
+
+    @Override
+    public String[] getExtensions() {
+        return new String[] {"xlsx"};
+    }
+
+    @Override
+    public DataSource open(String filePath, String name) {
+        return new ExcelStreamReader(filePath, name != null ? name : ExcelStreamReader.getSheetNames(filePath).get(0));
+    }
+}
@@ -0,0 +1,160 @@
+package datasource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link DataSourceProvider} for JSON files ({@code .json}), read with the Jackson
+ * streaming parser.
+ * <p>
+ * The file is either an array of objects, or an object with a field holding such an
+ * array; the name argument selects the field (a {@code null} name uses the first array
+ * field). Scalar values are returned as text, {@code null} as an empty string, and nested
+ * objects or arrays as compact JSON.
+ * </p>
+ *
+ * <p>Rows are streamed, so the headers are the keys of the first object: later objects may
+ * omit keys (read as empty strings), but a key the first object lacks is reported as an error.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class JsonDataSourceProvider implements DataSourceProvider {
+
+    /** Shared mapper, used only to serialize nested values back to JSON text. */
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public String[] getExtensions() {
+        return new String[] {"json"};
+    }
+
+    @Override
+    public DataSource open(String filePath, String name) {
+        try {
+            return new JsonDataSource(mapper.getFactory().createParser(new File(filePath)), filePath, name);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open JSON file: " + e.getMessage(), e);
+        }
+    }
+
+    /** Streaming JSON reader positioned inside the array of row objects. */
+    private static class JsonDataSource implements DataSource {
+
+        private final JsonParser parser;
+        private final List<String> headers;
+        private Map<String, String> nextRow;
+
+        /** 1-based number of {@link #nextRow} in the array, for error messages. */
+        private int rowNumber = 1;
+
+        JsonDataSource(JsonParser parser, String filePath, String name) throws IOException {
+            this.parser = parser;
+            try {
+                moveToArray(name, filePath);
+                nextRow = readObject();
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+            headers = nextRow == null ? Collections.<String>emptyList()
+                    : Collections.unmodifiableList(new ArrayList<>(nextRow.keySet()));
+        }
+
+        @Override
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRow != null;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            if (nextRow == null) {
+                throw new NoSuchElementException("No more rows in JSON file");
+            }
+            for (String key : nextRow.keySet()) {
+                if (!headers.contains(key)) {
+                    throw new RuntimeException("Object " + rowNumber + " of the JSON array has key '" + key
+                            + "', which the first object lacks; headers are taken from the first object " + headers);
+                }
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (String header : headers) {
+                String value = nextRow.get(header);
+                row.put(header, value == null ? "" : value);
+            }
+            try {
+                nextRow = readObject();
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read JSON file: " + e.getMessage(), e);
+            }
+            rowNumber++;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        /** Advances to the start of the row array: the root array, or the named field of the root object. */
+        private void moveToArray(String name, String filePath) throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                return;
+            }
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && (name == null || name.equals(field))) {
+                        return;
+                    }
+                    parser.skipChildren();
+                }
+            }
+            throw new RuntimeException("No array of rows" + (name == null ? "" : " named '" + name + "'")
+                    + " found in JSON file: " + filePath);
+        }
+
+        /** Reads the next object of the array as field → text, or returns {@code null} at the end of the array. */
+        private Map<String, String> readObject() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new RuntimeException("Expected a JSON object per row but found " + token
+                        + " at " + parser.currentLocation());
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    row.put(field, mapper.writeValueAsString(parser.readValueAsTree()));
+                } else {
+                    row.put(field, value == JsonToken.VALUE_NULL ? "" : parser.getText());
+                }
+            }
+            return row;
+        }
+    }
+}
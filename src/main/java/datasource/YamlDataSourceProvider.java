@@ -0,0 +1,299 @@
+package datasource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+
+/**
+ * {@link DataSourceProvider} for YAML files ({@code .yaml}, {@code .yml}), read from the
+ * SnakeYAML event stream without building the document tree.
+ * <p>
+ * The document is either a sequence of mappings, or a mapping with a key holding such a
+ * sequence; the name argument selects the key (a {@code null} name uses the first
+ * sequence). Scalars are returned as written, {@code null}/{@code ~} as an empty string,
+ * and nested collections in flow style (for example {@code [a, b]}).
+ * </p>
+ *
+ * <p>Anchors and aliases are resolved, including merge keys, so rows can share defaults:</p>
+ * <pre>
+ * defaults: &amp;defaults {browser: chrome, locale: en}
+ * rows:
+ *   - {&lt;&lt;: *defaults, user: alice}
+ *   - {&lt;&lt;: *defaults, user: bob, locale: de}
+ * </pre>
+ *
+ * <p>Rows are streamed, so the headers are the keys of the first row: later rows may omit
+ * keys (read as empty strings), but a key the first row lacks is reported as an error.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class YamlDataSourceProvider implements DataSourceProvider {
+
+    @Override
+    public String[] getExtensions() {
+        return new String[] {"yaml", "yml"};
+    }
+
+    @Override
+    public DataSource open(String filePath, String name) {
+        try {
+            return new YamlDataSource(Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8), filePath, name);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open YAML file: " + e.getMessage(), e);
+        }
+    }
+
+    /** Streaming YAML reader positioned inside the sequence of row mappings. */
+    private static class YamlDataSource implements DataSource {
+
+        private final Reader reader;
+        private final Iterator<Event> events;
+        private final List<String> headers;
+        private Map<String, String> nextRow;
+
+        /** 1-based number of {@link #nextRow} in the sequence, for error messages. */
+        private int rowNumber = 1;
+
+        /** Text of every anchored node read so far, by anchor name. */
+        private final Map<String, String> anchoredText = new HashMap<>();
+
+        /** Entries of every anchored mapping read so far, by anchor name, for merge keys. */
+        private final Map<String, Map<String, String>> anchoredMappings = new HashMap<>();
+
+        YamlDataSource(Reader reader, String filePath, String name) {
+            this.reader = reader;
+            // Rows are streamed, so the document size limit meant for whole-document loading does not apply
+            LoaderOptions options = new LoaderOptions();
+            options.setCodePointLimit(Integer.MAX_VALUE);
+            this.events = new Yaml(options).parse(reader).iterator();
+            try {
+                moveToSequence(name, filePath);
+                nextRow = readMapping();
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            headers = nextRow == null ? Collections.<String>emptyList()
+                    : Collections.unmodifiableList(new ArrayList<>(nextRow.keySet()));
+        }
+
+        @Override
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRow != null;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            if (nextRow == null) {
+                throw new NoSuchElementException("No more rows in YAML file");
+            }
+            for (String key : nextRow.keySet()) {
+                if (!headers.contains(key)) {
+                    throw new RuntimeException("Row " + rowNumber + " of the YAML sequence has key '" + key
+                            + "', which the first row lacks; headers are taken from the first row " + headers);
+                }
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (String header : headers) {
+                String value = nextRow.get(header);
+                row.put(header, value == null ? "" : value);
+            }
+            nextRow = readMapping();
+            rowNumber++;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        /** Advances past the start of the row sequence: the root sequence, or the named key of the root mapping. */
+        private void moveToSequence(String name, String filePath) {
+            Event event = nextContent();
+            if (event != null && event.is(Event.ID.SequenceStart)) {
+                return;
+            }
+            if (event != null && event.is(Event.ID.MappingStart)) {
+                for (Event key = events.next(); key.is(Event.ID.Scalar); key = events.next()) {
+                    Event value = events.next();
+                    if (value.is(Event.ID.SequenceStart)
+                            && (name == null || name.equals(((ScalarEvent) key).getValue()))) {
+                        return;
+                    }
+                    skip(value);
+                }
+            }
+            throw new RuntimeException("No sequence of rows" + (name == null ? "" : " named '" + name + "'")
+                    + " found in YAML file: " + filePath);
+        }
+
+        /** Skips the stream and document start events and returns the first content event. */
+        private Event nextContent() {
+            while (events.hasNext()) {
+                Event event = events.next();
+                if (!event.is(Event.ID.StreamStart) && !event.is(Event.ID.DocumentStart)) {
+                    return event;
+                }
+            }
+            return null;
+        }
+
+        /** Reads the next mapping of the sequence as key → text, or returns {@code null} at the end of the sequence. */
+        private Map<String, String> readMapping() {
+            Event event = events.hasNext() ? events.next() : null;
+            if (event == null || event.is(Event.ID.SequenceEnd)) {
+                return null;
+            }
+            if (!event.is(Event.ID.MappingStart)) {
+                throw new RuntimeException("Expected a YAML mapping per row but found " + event.getEventId()
+                        + " at " + event.getStartMark());
+            }
+            return readEntries(event);
+        }
+
+        /**
+         * Reads the entries of the mapping whose start event was just read, resolving merge
+         * keys ({@code <<}): explicit keys win over merged ones, and earlier merges over later ones.
+         */
+        private Map<String, String> readEntries(Event start) {
+            Map<String, String> entries = new LinkedHashMap<>();
+            for (Event key = events.next(); !key.is(Event.ID.MappingEnd); key = events.next()) {
+                if (isMergeKey(key)) {
+                    for (Map.Entry<String, String> merged : mergedEntries(events.next()).entrySet()) {
+                        entries.putIfAbsent(merged.getKey(), merged.getValue());
+                    }
+                } else {
+                    entries.put(text(key), text(events.next()));
+                }
+            }
+            String anchor = anchorOf(start);
+            if (anchor != null) {
+                anchoredMappings.put(anchor, entries);
+                anchoredText.put(anchor, flow(entries));
+            }
+            return entries;
+        }
+
+        /** Returns the entries merged by the value of a merge key: an alias, a sequence of aliases or an inline mapping. */
+        private Map<String, String> mergedEntries(Event value) {
+            if (value.is(Event.ID.MappingStart)) {
+                return readEntries(value);
+            }
+            if (value.is(Event.ID.SequenceStart)) {
+                Map<String, String> entries = new LinkedHashMap<>();
+                for (Event item = events.next(); !item.is(Event.ID.SequenceEnd); item = events.next()) {
+                    for (Map.Entry<String, String> merged : mergedEntries(item).entrySet()) {
+                        entries.putIfAbsent(merged.getKey(), merged.getValue());
+                    }
+                }
+                return entries;
+            }
+            if (value.is(Event.ID.Alias)) {
+                String anchor = ((AliasEvent) value).getAnchor();
+                Map<String, String> entries = anchoredMappings.get(anchor);
+                if (entries == null) {
+                    throw new RuntimeException("Merge key '<<' refers to *" + anchor + ", which is "
+                            + (anchoredText.containsKey(anchor) ? "not a mapping" : "not defined before it")
+                            + ", at " + value.getStartMark());
+                }
+                return entries;
+            }
+            throw new RuntimeException("Merge key '<<' expects a mapping or an alias of one but found "
+                    + value.getEventId() + " at " + value.getStartMark());
+        }
+
+        /** Returns a scalar's text, or a nested collection in flow style, recording anchored nodes. */
+        private String text(Event event) {
+            if (event.is(Event.ID.Alias)) {
+                String anchor = ((AliasEvent) event).getAnchor();
+                String value = anchoredText.get(anchor);
+                if (value == null) {
+                    throw new RuntimeException("YAML alias *" + anchor + " is not defined before it is used, at "
+                            + event.getStartMark());
+                }
+                return value;
+            }
+            if (event.is(Event.ID.MappingStart)) {
+                return flow(readEntries(event));
+            }
+            String value;
+            if (event.is(Event.ID.Scalar)) {
+                ScalarEvent scalar = (ScalarEvent) event;
+                boolean plain = scalar.getScalarStyle() == DumperOptions.ScalarStyle.PLAIN;
+                value = plain && ("~".equals(scalar.getValue()) || "null".equalsIgnoreCase(scalar.getValue()))
+                        ? "" : scalar.getValue();
+            } else {
+                StringBuilder flow = new StringBuilder("[");
+                for (Event item = events.next(); !item.is(Event.ID.SequenceEnd); item = events.next()) {
+                    flow.append(flow.length() > 1 ? ", " : "").append(text(item));
+                }
+                value = flow.append(']').toString();
+            }
+            String anchor = anchorOf(event);
+            if (anchor != null) {
+                anchoredText.put(anchor, value);
+            }
+            return value;
+        }
+
+        /** Skips a value, including all events of a nested collection, still recording the anchors in it. */
+        private void skip(Event event) {
+            if (anchorOf(event) != null) {
+                text(event);
+            } else if (event.is(Event.ID.SequenceStart) || event.is(Event.ID.MappingStart)) {
+                Event.ID end = event.is(Event.ID.MappingStart) ? Event.ID.MappingEnd : Event.ID.SequenceEnd;
+                for (Event nested = events.next(); !nested.is(end); nested = events.next()) {
+                    skip(nested);
+                }
+            }
+        }
+
+        /** Returns the anchor a scalar or collection defines, or {@code null}. */
+        private static String anchorOf(Event event) {
+            return event instanceof NodeEvent && !event.is(Event.ID.Alias) ? ((NodeEvent) event).getAnchor() : null;
+        }
+
+        private static boolean isMergeKey(Event event) {
+            return event.is(Event.ID.Scalar) && "<<".equals(((ScalarEvent) event).getValue())
+                    && ((ScalarEvent) event).getScalarStyle() == DumperOptions.ScalarStyle.PLAIN;
+        }
+
+        /** Formats mapping entries in flow style, e.g. {@code {a: 1, b: 2}}. */
+        private static String flow(Map<String, String> entries) {
+            StringBuilder flow = new StringBuilder("{");
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                flow.append(flow.length() > 1 ? ", " : "").append(entry.getKey()).append(": ").append(entry.getValue());
+            }
+            return flow.append('}').toString();
+        }
+    }
+}
@@ -32,9 +32,6 @@ public class ChromeDriverManager {
      */
     private ChromeDriverManager() {}
 
-    /** Value of the "headless" property from config.properties */
-    private static String headless = ConfigReader.getProperty(ConfigPropertiesKey.HEADLESS);
-
     /**
      * Creates and returns a {@link ChromeOptions} object with default configurations.
      * <p>
@@ -54,7 +51,7 @@ public class ChromeDriverManager {
         options.addArguments("--start-maximized"); 
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-infobars"); // Removes "Chrome is being controlled by automated test software"
-        if (Boolean.parseBoolean(headless)) {
+        if (ConfigReader.getBoolean(ConfigPropertiesKey.HEADLESS)) {
             options.addArguments("--headless");
         }
         return options;
@@ -1,17 +1,25 @@
 package driver;
 
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.safari.SafariDriver;
 
+import base.TestContext;
+import reports.LiveMetrics;
+import utils.ElementCache;
+import utils.WindowRegistry;
+
 /**
  * Manages WebDriver instances for different browsers in a thread-safe manner.
  * <p>
- * This class centralizes driver initialization, retrieval, and cleanup. It uses
- * a {@link ThreadLocal} to ensure each parallel test thread has its own isolated
- * WebDriver instance, which prevents cross-thread interference during execution.
+ * This class centralizes driver initialization, retrieval, and cleanup. The driver is
+ * kept in the current {@link TestContext}, so each parallel test has its own isolated
+ * WebDriver instance, which prevents cross-thread interference during execution, and work
+ * propagated with {@link TestContext#wrap(Runnable)} sees the test's driver.
  * </p>
  *
  * <p><b>Supported Browsers:</b></p>
@@ -34,63 +42,108 @@ import org.openqa.selenium.safari.SafariDriver;
  */
 public class DriverManager {
 
-    /** Thread-local variable to hold WebDriver instances for parallel execution. */
-    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
-
     /**
      * Initializes a new WebDriver instance based on the specified browser type.
      * <p>
-     * If a driver is already initialized for the current thread, it will return
-     * the existing instance instead of creating a new one.
+     * If a driver is already initialized for the current test, it will return
+     * the existing instance instead of creating a new one. When {@code elementCache=true},
+     * the driver is decorated so that {@link ElementCache} is invalidated on navigation. Launch
+     * times and open sessions are counted in {@link LiveMetrics}.
      * </p>
      *
      * @param browser Browser name (e.g., "chrome", "firefox", "edge", "safari")
      * @return The initialized {@link WebDriver} instance for the current thread
      */
     public static WebDriver initDriver(String browser) {
-        if (driver.get() == null) {
+        TestContext context = TestContext.current();
+        if (context.getDriver() == null) {
+            long launchStart = System.nanoTime();
+            WebDriver driver;
             switch (browser.toLowerCase()) {
                 case "firefox":
-                    driver.set(new FirefoxDriver(FirefoxDriverManager.getFirefoxOptions()));
+                    driver = new FirefoxDriver(FirefoxDriverManager.getFirefoxOptions());
                     break;
 
                 case "edge":
-                    driver.set(new EdgeDriver(EdgeDriverManager.getEdgeOptions()));
+                    driver = new EdgeDriver(EdgeDriverManager.getEdgeOptions());
                     break;
 
                 case "safari":
-                    driver.set(new SafariDriver(SafariDriverManager.getSafariOptions()));
+                    driver = new SafariDriver(SafariDriverManager.getSafariOptions());
                     break;
 
                 case "chrome":
                 default:
-                    driver.set(new ChromeDriver(ChromeDriverManager.getChromeOptions()));
+                    driver = new ChromeDriver(ChromeDriverManager.getChromeOptions());
                     break;
             }
+            LiveMetrics.browserLaunched(System.nanoTime() - launchStart);
+            context.setDriver(ElementCache.isEnabled() ? ElementCache.attach(driver) : driver);
         }
-        return driver.get();
+        return context.getDriver();
     }
 
     /**
-     * Retrieves the {@link WebDriver} instance associated with the current thread.
+     * Retrieves the {@link WebDriver} instance associated with the current test.
      *
-     * @return The current thread’s {@link WebDriver} instance, or {@code null} if not initialized
+     * @return The current test’s {@link WebDriver} instance, or {@code null} if not initialized
      */
     public static WebDriver getDriver() {
-        return driver.get();
+        TestContext context = TestContext.get();
+        return context == null ? null : context.getDriver();
     }
 
     /**
-     * Quits the current thread's WebDriver instance and removes it from memory.
+     * Quits the current test's WebDriver instance and removes it from memory.
      * <p>
      * This should typically be called in an {@code @AfterMethod} or {@code @AfterTest}
      * block to ensure proper cleanup and resource release.
      * </p>
      */
     public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
-            driver.remove();
+        TestContext context = TestContext.get();
+        if (context != null && context.getDriver() != null) {
+            try {
+                context.getDriver().quit();
+            } finally {
+                // Forget the session, and the element cache and window registry bound to it, even
+                // if quitting it failed, so the next initDriver starts a new one
+                context.setDriver(null);
+                LiveMetrics.browserQuit();
+            }
+        }
+    }
+
+    /**
+     * Resets the current test's browser session so the next test or retry can reuse it.
+     * <p>
+     * Closes every window but the first, deletes all cookies, clears the current origin's
+     * local and session storage and navigates to {@code about:blank}. If the session does not
+     * respond, it is quit instead and the next {@link #initDriver(String)} launches a new one.
+     * </p>
+     */
+    public static void resetSession() {
+        WebDriver driver = getDriver();
+        if (driver == null) {
+            return;
+        }
+        try {
+            String first = null;
+            for (String handle : driver.getWindowHandles()) {
+                if (first == null) {
+                    first = handle;
+                } else {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(first);
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            WindowRegistry.unload();
+        } catch (WebDriverException e) {
+            quitDriver();
         }
     }
 
@@ -32,9 +32,6 @@ public class EdgeDriverManager {
      */
     private EdgeDriverManager() {}
     
-    /** Value of the "headless" property from config.properties */
-    private static String headless = ConfigReader.getProperty(ConfigPropertiesKey.HEADLESS);
-    
     /**
      * Creates and returns an {@link EdgeOptions} object with default configurations.
      * <p>
@@ -54,7 +51,7 @@ public class EdgeDriverManager {
         options.addArguments("--start-maximized"); 
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-infobars"); // Removes "Edge is being controlled by automated test software"
-        if (Boolean.parseBoolean(headless)) {
+        if (ConfigReader.getBoolean(ConfigPropertiesKey.HEADLESS)) {
             options.addArguments("--headless");
         }
         return options;
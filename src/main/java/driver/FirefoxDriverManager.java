@@ -31,9 +31,6 @@ public class FirefoxDriverManager {
      */
     private FirefoxDriverManager() {}
 
-    /** Value of the "headless" property from config.properties */
-    private static String headless = ConfigReader.getProperty(ConfigPropertiesKey.HEADLESS);
-
     /**
      * Creates and returns a {@link FirefoxOptions} object with default configurations.
      * <p>
@@ -53,7 +50,7 @@ public class FirefoxDriverManager {
         options.addArguments("--width=1920");
         options.addArguments("--height=1080");
 
-        if (Boolean.parseBoolean(headless)) {
+        if (ConfigReader.getBoolean(ConfigPropertiesKey.HEADLESS)) {
             options.addArguments("--headless");
         }
         return options;
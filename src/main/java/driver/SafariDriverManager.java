@@ -32,9 +32,6 @@ public class SafariDriverManager {
      */
     private SafariDriverManager() {}
 
-    /** Value of the "headless" property from config.properties */
-    private static String headless = ConfigReader.getProperty(ConfigPropertiesKey.HEADLESS);
-
     /**
      * Creates and returns a {@link SafariOptions} object with default configurations.
      * <p>
@@ -55,7 +52,7 @@ public class SafariDriverManager {
         options.setAutomaticProfiling(false);
 
         // Headless mode is supported only in Safari Technology Preview (macOS)
-        if (Boolean.parseBoolean(headless)) {
+        if (ConfigReader.getBoolean(ConfigPropertiesKey.HEADLESS)) {
             options.setCapability("safari.options.headless", true);
         }
 
@@ -0,0 +1,123 @@
+package listener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+
+/**
+ * TestNG suite listener that fans every {@code <test>} out across a browser matrix.
+ * <p>
+ * When {@code browsers} lists more than one browser (in {@code config.properties}, as
+ * {@code -Dbrowsers=chrome,firefox,edge} or as a suite {@code <parameter>}), each
+ * {@code <test>} is cloned once per browser before the suite runs. A clone is named
+ * {@code <test name> [<browser>]} and carries a {@code browser} parameter, which
+ * {@link base.BaseClass} applies as a per-test configuration override, so every
+ * (test, browser) pair gets its own {@link driver.DriverManager} session and its own
+ * Extent report. Tests that already declare a {@code browser} parameter are left as-is.
+ * </p>
+ *
+ * <p>The suite is always switched to {@code parallel="tests"}, so the clones of different
+ * browsers run side by side and the run takes about as long as the slowest browser rather
+ * than the sum of all browsers. A {@code methods}, {@code classes} or {@code instances} mode
+ * of the suite or test is kept as the parallelism inside each clone. The worker pool is sized
+ * from the configured {@code threadCount}: with {@code parallel=true} up to
+ * {@code threadCount} clones per browser run at once, or one clone per browser when the
+ * clones are parallel inside, so no more than {@code threadCount} × browsers sessions are
+ * open at the same time.</p>
+ *
+ * <p>Registered automatically through {@code META-INF/services/org.testng.ITestNGListener}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class BrowserMatrixListener implements IAlterSuiteListener {
+
+    /** Name of the test parameter holding the browser of a matrix entry. */
+    public static final String BROWSER_PARAMETER = ConfigPropertiesKey.BROWSER.getKey();
+
+    /**
+     * Expands the {@code <test>} entries of each suite across the configured browsers.
+     *
+     * @param suites The suites about to run
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        for (XmlSuite suite : suites) {
+            Set<String> browsers = browsersFor(suite);
+            if (browsers.size() < 2) {
+                continue;
+            }
+            List<XmlTest> originals = new ArrayList<>(suite.getTests());
+            List<XmlTest> expanded = new ArrayList<>();
+            boolean parallelInside = false;
+            for (XmlTest test : originals) {
+                // Pin the mode inside the test before the suite mode it may inherit changes
+                XmlSuite.ParallelMode mode = test.getParallel();
+                if (isParallelInside(mode)) {
+                    test.setParallel(mode);
+                    test.setThreadCount(test.getThreadCount());
+                    parallelInside = true;
+                } else {
+                    test.setParallel(XmlSuite.ParallelMode.NONE);
+                }
+                if (test.getLocalParameters().containsKey(BROWSER_PARAMETER)) {
+                    expanded.add(test);
+                    continue;
+                }
+                for (String browser : browsers) {
+                    expanded.add(forBrowser(test, browser));
+                }
+            }
+            // XmlTest.clone() registers each clone with the suite, so the list is replaced as a whole
+            suite.setTests(expanded);
+
+            int perBrowser = parallelInside || !ConfigReader.getBoolean(ConfigPropertiesKey.PARALLEL) ? 1
+                    : Math.max(1, ConfigReader.getInt(ConfigPropertiesKey.THREADCOUNT, suite.getThreadCount()));
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.min(expanded.size(), perBrowser * browsers.size()));
+        }
+    }
+
+    /** Returns whether the mode runs the methods of a single {@code <test>} in parallel. */
+    private static boolean isParallelInside(XmlSuite.ParallelMode mode) {
+        return mode == XmlSuite.ParallelMode.METHODS || mode == XmlSuite.ParallelMode.CLASSES
+                || mode == XmlSuite.ParallelMode.INSTANCES;
+    }
+
+    /** Returns the browsers of the suite's {@code browsers} parameter, or of the configuration. */
+    private static Set<String> browsersFor(XmlSuite suite) {
+        String list = suite.getParameter(ConfigPropertiesKey.BROWSERS.getKey());
+        if (list == null) {
+            list = ConfigReader.getProperty(ConfigPropertiesKey.BROWSERS);
+        }
+        Set<String> browsers = new LinkedHashSet<>();
+        if (list != null) {
+            for (String browser : list.split(",")) {
+                if (!browser.trim().isEmpty()) {
+                    browsers.add(browser.trim().toLowerCase());
+                }
+            }
+        }
+        return browsers;
+    }
+
+    /** Clones the test for one browser. */
+    private static XmlTest forBrowser(XmlTest test, String browser) {
+        XmlTest clone = (XmlTest) test.clone();
+        clone.setName(test.getName() + " [" + browser + "]");
+        Map<String, String> parameters = new LinkedHashMap<>(test.getLocalParameters());
+        parameters.put(BROWSER_PARAMETER, browser);
+        clone.setParameters(parameters);
+        return clone;
+    }
+}
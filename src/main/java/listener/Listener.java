@@ -1,5 +1,7 @@
 package listener;
 
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
 import org.testng.ITestContext;
@@ -9,9 +11,19 @@ import org.testng.ITestResult;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 
+import base.TestContext;
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import reports.LiveMetrics;
 import reports.Logger;
 import reports.ReportManager;
+import reports.StepTimeline;
 import reports.TestManager;
+import runner.CucumberRunner;
+import utils.ElementCache;
+import utils.TestDataCache;
+import utils.TestHistory;
+import utils.WaitStatistics;
 
 /**
  * TestNG Listener implementation for Extent Reports integration.
@@ -25,9 +37,12 @@ import reports.TestManager;
  * <ul>
  *   <li>Create timestamped report folders at suite start</li>
  *   <li>Generate a separate Extent Report per &lt;test&gt; tag in TestNG XML</li>
+ *   <li>Install a fresh {@link TestContext} for each test method and clear it afterwards</li>
  *   <li>Create and manage {@link ExtentTest} nodes for each test method</li>
  *   <li>Log test results (PASS / FAIL / SKIP) with corresponding details</li>
  *   <li>Flush the report after test completion</li>
+ *   <li>Record each test's outcome in {@link TestHistory} and report retried attempts separately</li>
+ *   <li>Persist wait statistics and test history at suite completion</li>
  * </ul>
  *
  * <p><b>Usage:</b></p>
@@ -40,12 +55,13 @@ import reports.TestManager;
  * @author 
  * @version 1.0
  */
-public class Listener implements ITestListener, ISuiteListener {
+public class Listener implements ITestListener, ISuiteListener, IInvokedMethodListener {
 
     /**
      * Invoked before the test suite starts.
      * <p>
-     * This method creates the base timestamped report folder once per suite execution.
+     * This method creates the base timestamped report folder once per suite execution and,
+     * when {@code metricsPort} is set, starts the {@link LiveMetrics} endpoint.
      * </p>
      *
      * @param suite The current test suite
@@ -53,6 +69,7 @@ public class Listener implements ITestListener, ISuiteListener {
     @Override
     public void onStart(ISuite suite) {
         ReportManager.createReportFolder();
+        LiveMetrics.start(ConfigReader.getInt(ConfigPropertiesKey.METRICSPORT, 0));
     }
 
     /**
@@ -66,22 +83,31 @@ public class Listener implements ITestListener, ISuiteListener {
      */
     @Override
     public void onStart(ITestContext context) {
-        ReportManager.createInstance(context.getName());
+        ReportManager.createInstance(context);
     }
 
     /**
      * Invoked when an individual test method starts execution.
      * <p>
-     * Creates a new {@link ExtentTest} node for the test and associates it with the current thread.
+     * Creates a new {@link ExtentTest} node for the test, tagged with the test's browser,
+     * associates it with the current thread and starts its {@link StepTimeline}. Scenarios of a {@link CucumberRunner} are skipped
+     * because the runner creates their nodes.
      * </p>
      *
      * @param result The result of the test method
      */
     @Override
     public void onTestStart(ITestResult result) {
-        ExtentTest node = ReportManager.getExtent().createTest(result.getMethod().getMethodName());
-        TestManager.setTest(node);
+        if (result.getInstance() instanceof CucumberRunner) {
+            // Cucumber scenarios get their node, named after the scenario, from the runner
+            return;
+        }
+        createNode(result);
+        StepTimeline.start();
         Logger.info("Test Started: " + result.getMethod().getMethodName());
+        if (ElementCache.current() != null) {
+            ElementCache.current().resetStatistics();
+        }
     }
 
     /**
@@ -91,7 +117,11 @@ public class Listener implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestSuccess(ITestResult result) {
+    	logElementCacheStatistics();
+    	LiveMetrics.testPassed();
+    	TestHistory.record(TestHistory.idOf(result), true);
     	Logger.pass("Test Passed : "+result.getName());
+    	finishTest(result);
     }
 
     /**
@@ -104,26 +134,107 @@ public class Listener implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestFailure(ITestResult result) {
+    	logElementCacheStatistics();
+    	LiveMetrics.testFailed();
+    	TestHistory.record(TestHistory.idOf(result), false);
     	TestManager.getTest().log(Status.FAIL, "Test Failed: " + result.getName()+"\n Error : \n"+result.getThrowable());
+    	finishTest(result);
     }
 
     /**
      * Invoked when a test method is skipped.
      * <p>
-     * Logs the skip reason (if available) to the Extent Report.
+     * Logs the skip reason (if available) to the Extent Report. Tests skipped before they
+     * started, for example after a failed {@code @BeforeMethod}, get a node of their own.
+     * Failed attempts that {@link RetryAnalyzer} retries are reported here too; they are
+     * logged as warnings and counted as retries rather than skips.
      * </p>
      *
      * @param result The result of the skipped test method
      */
     @Override
     public void onTestSkipped(ITestResult result) {
+    	if (TestManager.getTest() == null) {
+    		createNode(result);
+    	}
+    	logElementCacheStatistics();
+    	if (result.wasRetried()) {
+    		long millis = result.getEndMillis() - result.getStartMillis();
+    		LiveMetrics.testRetried(millis);
+    		TestManager.getTest().log(Status.WARNING, "Attempt failed after " + millis + " ms, retrying: " + result.getName()
+    				+ "\n Error : \n" + result.getThrowable());
+    		finishTest(result);
+    		return;
+    	}
+    	LiveMetrics.testSkipped();
     	TestManager.getTest().log(Status.SKIP, "Test Failed: " + result.getName()+"\n Error : \n"+result.getThrowable());
+    	finishTest(result);
+    }
+
+    /**
+     * Invoked before every test and configuration method.
+     * <p>
+     * Installs a fresh {@link TestContext} before the first {@code @BeforeMethod} (or the
+     * test method itself) of each test, so the driver opened during setup belongs to the test.
+     * </p>
+     *
+     * @param method The method about to be invoked
+     * @param result The result of the invocation
+     */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isTestMethod() || method.getTestMethod().isBeforeMethodConfiguration()) {
+            TestContext.begin();
+        }
+    }
+
+    /**
+     * Invoked after every test and configuration method; clears the test's
+     * {@link TestContext} after its last {@code @AfterMethod}.
+     *
+     * @param method The method that was invoked
+     * @param result The result of the invocation
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.getTestMethod().isAfterMethodConfiguration()) {
+            TestContext.afterMethodCompleted();
+        }
+    }
+
+    /** Creates the test's {@link ExtentTest} node, tagged with the test's browser. */
+    private void createNode(ITestResult result) {
+        String browser = result.getTestContext().getCurrentXmlTest().getParameter(BrowserMatrixListener.BROWSER_PARAMETER);
+        ExtentTest node = ReportManager.createTest(result.getTestContext(), result.getMethod().getMethodName(),
+                browser != null ? browser : ConfigReader.getProperty(ConfigPropertiesKey.BROWSER));
+        TestContext.current().setReport(ReportManager.getExtent(result.getTestContext()));
+        TestManager.setTest(node);
+    }
+
+    /**
+     * Attaches the test's step waterfall and marks its {@link TestContext} finished; the
+     * context is cleared once the test's {@code @AfterMethod} configurations have run.
+     */
+    private void finishTest(ITestResult result) {
+        StepTimeline.finish(TestManager.getTest());
+        TestContext.finish(result.getMethod().getTestClass().getAfterTestMethods().length);
+    }
+
+    /**
+     * Logs the current test's {@link ElementCache} hit rate and round trips saved,
+     * if the element cache is enabled for the current thread's driver.
+     */
+    private void logElementCacheStatistics() {
+        if (ElementCache.current() != null) {
+            Logger.info(ElementCache.current().toString());
+        }
     }
 
     /**
      * Invoked after all test methods within the current TestNG &lt;test&gt; are finished.
      * <p>
-     * Flushes the {@link com.aventstack.extentreports.ExtentReports} instance to ensure 
+     * Records the {@link TestDataCache} statistics as system info and flushes the
+     * {@link com.aventstack.extentreports.ExtentReports} instance to ensure
      * all results are written to disk.
      * </p>
      *
@@ -131,10 +242,27 @@ public class Listener implements ITestListener, ISuiteListener {
      */
     @Override
     public void onFinish(ITestContext context) {
-        ReportManager.getExtent().flush();
+        ReportManager.getExtent(context).setSystemInfo("Test Data Cache", TestDataCache.getStatistics());
+        ReportManager.close(context);
     }
 
-    // The following suite-level finish method can be added if needed in future
-    // @Override
-    // public void onFinish(ISuite suite) { }
+    /**
+     * Invoked after the whole suite has finished.
+     * <p>
+     * Persists the per-locator wait statistics and the test history collected during the run
+     * and writes the slowest/most variable locator, slowest step and retry reports next to the
+     * Extent reports, then stops the {@link LiveMetrics} endpoint.
+     * </p>
+     *
+     * @param suite The suite that has just finished execution
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        WaitStatistics.save();
+        WaitStatistics.writeReport(ReportManager.getBaseReportFolderPath());
+        StepTimeline.writeReport(ReportManager.getBaseReportFolderPath());
+        TestHistory.save();
+        TestHistory.writeReport(ReportManager.getBaseReportFolderPath());
+        LiveMetrics.stop();
+    }
 }
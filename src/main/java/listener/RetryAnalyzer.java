@@ -0,0 +1,48 @@
+package listener;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import utils.TestHistory;
+
+/**
+ * Retries failed tests right away, as often as their {@link TestHistory} warrants.
+ * <p>
+ * Tests known to be flaky get up to {@code maxRetries} retries, other tests one retry for
+ * WebDriver failures and none for assertion failures. A retried attempt keeps its browser:
+ * {@link base.BaseClass} resets the session (cookies, storage, extra windows) instead of
+ * quitting it, so the retry starts on a warm session rather than a cold launch.
+ * </p>
+ *
+ * <p>Applied to every test by {@link RetryListener} when {@code retryFlakyTests=true}; it can
+ * also be set explicitly with {@code @Test(retryAnalyzer = RetryAnalyzer.class)}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    /** Retries of this test (or data provider row) so far. */
+    private int retries;
+
+    /**
+     * Returns whether the failed attempt should be retried, and records the retry.
+     *
+     * @param result The result of the failed attempt
+     * @return {@code true} to run the test again
+     */
+    @Override
+    public boolean retry(ITestResult result) {
+        String testId = TestHistory.idOf(result);
+        int allowed = TestHistory.retriesFor(testId, result.getThrowable(),
+                ConfigReader.getInt(ConfigPropertiesKey.MAXRETRIES, 2));
+        if (retries >= allowed) {
+            return false;
+        }
+        retries++;
+        TestHistory.recordRetry(testId, result.getEndMillis() - result.getStartMillis());
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package listener;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.IMethodInterceptor;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import utils.TestHistory;
+
+/**
+ * Runs previously failed tests first and applies {@link RetryAnalyzer} to every test.
+ * <p>
+ * With {@code runFailedFirst=true}, the methods of each {@code <test>} are reordered so that
+ * those that failed in the previous run (according to {@link TestHistory}, for any of their
+ * data provider rows) run before the rest; the
+ * order within both groups is kept. With {@code retryFlakyTests=true}, every {@code @Test}
+ * without a retry analyzer of its own gets a {@link RetryAnalyzer}.
+ * </p>
+ *
+ * <p>Registered automatically through {@code META-INF/services/org.testng.ITestNGListener}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class RetryListener implements IAnnotationTransformer, IMethodInterceptor {
+
+    /**
+     * Sets {@link RetryAnalyzer} on tests without a retry analyzer.
+     *
+     * @param annotation      The test annotation
+     * @param testClass       The annotated class, if the annotation is on a class
+     * @param testConstructor The annotated constructor, if the annotation is on a constructor
+     * @param testMethod      The annotated method, if the annotation is on a method
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> analyzer = annotation.getRetryAnalyzerClass();
+        if (ConfigReader.getBoolean(ConfigPropertiesKey.RETRYFLAKYTESTS)
+                && (analyzer == null || analyzer == DisabledRetryAnalyzer.class)) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    /**
+     * Moves the methods that failed in the previous run to the front.
+     *
+     * @param methods The methods about to run
+     * @param context The current test context
+     * @return The reordered methods
+     */
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.getBoolean(ConfigPropertiesKey.RUNFAILEDFIRST)) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        List<IMethodInstance> rest = new ArrayList<>(methods.size());
+        for (IMethodInstance method : methods) {
+            (TestHistory.failedLastRun(method.getMethod().getQualifiedName()) ? ordered : rest).add(method);
+        }
+        ordered.addAll(rest);
+        return ordered;
+    }
+}
@@ -0,0 +1,140 @@
+package load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent latency histogram with bounded relative error, in the style of HdrHistogram.
+ * <p>
+ * Values are counted in log-linear buckets: values below 128 are counted exactly, and each
+ * power-of-two range above that is split into 64 linear sub-buckets, so every recorded value
+ * and every reported percentile is within 1.6% of the true value across the full
+ * {@code long} range. Recording is a lock-free increment into a fixed array of about 3,700
+ * counters, so any number of threads can record without contention or allocation.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(elapsedMicros);
+ * long p99 = histogram.getValueAtPercentile(99);
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    /** Values below this are counted in their own bucket. */
+    private static final int EXACT_LIMIT = 128;
+
+    /** Linear sub-buckets per power-of-two range above {@link #EXACT_LIMIT}. */
+    private static final int SUB_BUCKETS = 64;
+
+    /** Enough buckets for every non-negative {@code long}. */
+    private static final int BUCKETS = EXACT_LIMIT + (63 - 6) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records one value.
+     *
+     * @param value The value, for example a latency in microseconds; negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(v);
+        for (long min = minValue.get(); v < min && !minValue.compareAndSet(min, v); min = minValue.get()) {
+            // retry until this value is recorded or a smaller one is
+        }
+        for (long max = maxValue.get(); v > max && !maxValue.compareAndSet(max, v); max = maxValue.get()) {
+            // retry until this value is recorded or a larger one is
+        }
+    }
+
+    /** Adds all values recorded in another histogram to this one. */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalSum.addAndGet(other.totalSum.get());
+        if (other.getCount() > 0) {
+            minValue.accumulateAndGet(other.minValue.get(), Math::min);
+            maxValue.accumulateAndGet(other.maxValue.get(), Math::max);
+        }
+    }
+
+    /** Returns the number of recorded values. */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /** Returns the smallest recorded value, or 0 if empty. */
+    public long getMin() {
+        return getCount() == 0 ? 0 : minValue.get();
+    }
+
+    /** Returns the largest recorded value, or 0 if empty. */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /** Returns the mean of the recorded values, or 0 if empty. */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return The highest value equivalent (within the histogram's precision) to the value at
+     *         the percentile, capped at the recorded maximum; 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /** Returns the bucket index of a non-negative value. */
+    static int bucketOf(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        return EXACT_LIMIT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /** Returns the largest value counted in a bucket. */
+    static long highestEquivalentValue(int bucket) {
+        if (bucket < EXACT_LIMIT) {
+            return bucket;
+        }
+        int offset = bucket - EXACT_LIMIT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long mantissa = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,77 @@
+package load;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Failed {@link LoadRunner} iterations, counted by exception class.
+ * <p>
+ * The first stack trace of each exception class is kept, so the report shows why
+ * iterations failed without holding one trace per failure. Exceptions thrown by the test
+ * method are recorded as themselves, not as the {@link InvocationTargetException} that
+ * wraps them. Safe to record from all workers at once.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class LoadErrors {
+
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final Map<String, String> firstStackTraces = new ConcurrentHashMap<>();
+
+    /**
+     * Records a failed iteration.
+     *
+     * @param error The exception the iteration threw
+     */
+    void record(Throwable error) {
+        Throwable cause = error instanceof InvocationTargetException && error.getCause() != null
+                ? error.getCause() : error;
+        String type = cause.getClass().getName();
+        counts.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+        if (!firstStackTraces.containsKey(type)) {
+            StringWriter trace = new StringWriter();
+            cause.printStackTrace(new PrintWriter(trace));
+            firstStackTraces.putIfAbsent(type, trace.toString());
+        }
+    }
+
+    /** Returns the total number of failed iterations. */
+    public long getTotal() {
+        long total = 0;
+        for (AtomicLong count : counts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    /** Returns the number of failed iterations per exception class name, most frequent first. */
+    public Map<String, Long> getCounts() {
+        List<Map.Entry<String, AtomicLong>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()));
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue().get());
+        }
+        return Collections.unmodifiableMap(sorted);
+    }
+
+    /**
+     * Returns the stack trace of the first failure of an exception class.
+     *
+     * @param type The exception class name, as in {@link #getCounts()}
+     * @return The stack trace, or {@code null} if no such failure was recorded
+     */
+    public String getFirstStackTrace(String type) {
+        return firstStackTraces.get(type);
+    }
+}
@@ -0,0 +1,142 @@
+package load;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of a {@link LoadRunner} run: latency percentiles per step and per iteration.
+ * <p>
+ * All latencies are recorded in microseconds and reported in milliseconds. Iterations that
+ * threw are counted as errors, by exception class, and are not part of the iteration
+ * histogram; the steps they completed before failing are. The text report ends with the
+ * first stack trace of each exception class.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class LoadReport {
+
+    /** Percentiles reported for every step. */
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final String scenario;
+    private final int users;
+    private final long elapsedMillis;
+    private final LoadErrors errors;
+    private final LatencyHistogram iterations;
+    private final Map<String, LatencyHistogram> steps;
+
+    LoadReport(String scenario, int users, long elapsedMillis, LoadErrors errors, LatencyHistogram iterations,
+            Map<String, LatencyHistogram> steps) {
+        this.scenario = scenario;
+        this.users = users;
+        this.elapsedMillis = elapsedMillis;
+        this.errors = errors;
+        this.iterations = iterations;
+        this.steps = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+    }
+
+    /** Returns the number of successful iterations. */
+    public long getIterations() {
+        return iterations.getCount();
+    }
+
+    /** Returns the number of iterations that threw. */
+    public long getErrors() {
+        return errors.getTotal();
+    }
+
+    /** Returns the failed iterations by exception class. */
+    public LoadErrors getErrorDetails() {
+        return errors;
+    }
+
+    /** Returns successful iterations per second over the whole run. */
+    public double getThroughput() {
+        return elapsedMillis == 0 ? 0 : iterations.getCount() * 1000.0 / elapsedMillis;
+    }
+
+    /** Returns the latency histogram (microseconds) of successful iterations. */
+    public LatencyHistogram getIterationHistogram() {
+        return iterations;
+    }
+
+    /** Returns the latency histograms (microseconds) per step name. */
+    public Map<String, LatencyHistogram> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Writes the report as text ({@code load-report.txt}) and CSV ({@code load-report.csv}).
+     *
+     * @param folder The folder to write to
+     */
+    public void write(String folder) {
+        new File(folder).mkdirs();
+        try (PrintWriter text = new PrintWriter(new FileWriter(new File(folder, "load-report.txt")));
+             PrintWriter csv = new PrintWriter(new FileWriter(new File(folder, "load-report.csv")))) {
+            text.print(toString());
+            for (String type : errors.getCounts().keySet()) {
+                text.println();
+                text.println("First " + type + ":");
+                text.print(errors.getFirstStackTrace(type));
+            }
+            csv.println("step,count,min_ms,p50_ms,p90_ms,p95_ms,p99_ms,max_ms,mean_ms");
+            for (Map.Entry<String, LatencyHistogram> row : rows().entrySet()) {
+                LatencyHistogram h = row.getValue();
+                StringBuilder line = new StringBuilder("\"" + row.getKey().replace("\"", "\"\"") + "\"")
+                        .append(',').append(h.getCount()).append(',').append(ms(h.getMin()));
+                for (double percentile : PERCENTILES) {
+                    line.append(',').append(ms(h.getValueAtPercentile(percentile)));
+                }
+                csv.println(line.append(',').append(ms(h.getMax())).append(',').append(ms((long) h.getMean())));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /** Returns the report as a table of latency percentiles per step, followed by the error counts. */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Load test %s: %d users, %.1f s, %d iterations (%.2f/s), %d errors%n",
+                scenario, users, elapsedMillis / 1000.0, iterations.getCount(), getThroughput(), errors.getTotal()));
+        out.append(String.format(Locale.ROOT, "%-40s %8s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Step (ms)", "Count", "Min", "p50", "p90", "p95", "p99", "Max", "Mean"));
+        for (Map.Entry<String, LatencyHistogram> row : rows().entrySet()) {
+            LatencyHistogram h = row.getValue();
+            String name = row.getKey().length() > 40 ? row.getKey().substring(0, 37) + "..." : row.getKey();
+            out.append(String.format(Locale.ROOT, "%-40s %8d %9s", name, h.getCount(), ms(h.getMin())));
+            for (double percentile : PERCENTILES) {
+                out.append(String.format(Locale.ROOT, " %9s", ms(h.getValueAtPercentile(percentile))));
+            }
+            out.append(String.format(Locale.ROOT, " %9s %9s%n", ms(h.getMax()), ms((long) h.getMean())));
+        }
+        if (errors.getTotal() > 0) {
+            out.append(String.format(Locale.ROOT, "%n%-60s %8s%n", "Errors", "Count"));
+            for (Map.Entry<String, Long> error : errors.getCounts().entrySet()) {
+                out.append(String.format(Locale.ROOT, "%-60s %8d%n", error.getKey(), error.getValue()));
+            }
+        }
+        return out.toString();
+    }
+
+    /** Steps in first-seen order, followed by the whole iteration. */
+    private Map<String, LatencyHistogram> rows() {
+        Map<String, LatencyHistogram> rows = new LinkedHashMap<>(steps);
+        rows.put("(iteration)", iterations);
+        return rows;
+    }
+
+    private static String ms(long micros) {
+        return String.format(Locale.ROOT, "%.1f", micros / 1000.0);
+    }
+}
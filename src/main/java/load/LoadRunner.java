@@ -0,0 +1,247 @@
+package load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import base.TestContext;
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import driver.DriverManager;
+import reports.ReportManager;
+
+/**
+ * Runs a TestNG test method as a synthetic user journey with concurrent headless sessions.
+ * <p>
+ * Each of {@code users} workers opens one headless {@link DriverManager} session and keeps
+ * reusing it: before every iteration the cookies are cleared and the base URL is opened,
+ * then the test method is invoked directly (TestNG configuration methods such as
+ * {@link base.BaseClass} setup are not run). A session is only relaunched after an iteration
+ * fails. Workers start evenly spread over {@code rampUp} seconds and stop after
+ * {@code iterations} iterations each, or when {@code duration} seconds have passed.
+ * </p>
+ *
+ * <p>Per-step latencies come from the test's {@link reports.Logger} calls (see
+ * {@link StepRecorder}); together with whole-iteration latencies they are collected in
+ * {@link LatencyHistogram}s and written as a percentile report to the report folder, together
+ * with the failed iterations counted by exception class ({@link LoadErrors}).
+ * Methods with a data provider in the same class cycle through its rows.</p>
+ *
+ * <p><b>Example Usage</b> (against a local fixture app):</p>
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=load.LoadRunner \
+ *     -DbaseURL=http://localhost:8080 \
+ *     -Dexec.args="tests.LoginTest#login users=20 duration=300 rampUp=30"
+ *
+ * LoadReport report = LoadRunner.run(LoginTest.class, "login", 20, 300, 0, 30);
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class LoadRunner {
+
+    /** Private constructor to prevent instantiation. */
+    private LoadRunner() {}
+
+    /**
+     * Command-line entry point.
+     *
+     * @param args {@code <class>#<method>} followed by any of {@code users=N}, {@code duration=S},
+     *             {@code iterations=N} and {@code rampUp=S}
+     * @throws Exception if the test class or method cannot be loaded
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || !args[0].contains("#")) {
+            System.err.println("Usage: LoadRunner <class>#<method> [users=N] [duration=seconds] [iterations=N] [rampUp=seconds]");
+            System.exit(2);
+        }
+        int users = 1;
+        long duration = 0;
+        int iterations = 0;
+        long rampUp = 0;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            long value = Long.parseLong(option.length == 2 ? option[1].trim() : "");
+            switch (option[0].trim()) {
+                case "users":
+                    users = (int) value;
+                    break;
+                case "duration":
+                    duration = value;
+                    break;
+                case "iterations":
+                    iterations = (int) value;
+                    break;
+                case "rampUp":
+                    rampUp = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        String[] target = args[0].split("#", 2);
+        LoadReport report = run(Class.forName(target[0]), target[1], users, duration, iterations, rampUp);
+        System.out.print(report);
+        System.exit(report.getIterations() == 0 ? 1 : 0);
+    }
+
+    /**
+     * Runs the load test and writes its report to the report folder.
+     *
+     * @param testClass       The test class; it needs a public no-argument constructor
+     * @param methodName      The test method
+     * @param users           Number of concurrent sessions
+     * @param durationSeconds Maximum run time, or 0 for no limit
+     * @param iterations      Iterations per user, or 0 for no limit
+     * @param rampUpSeconds   Time over which the users are started
+     * @return The {@link LoadReport}
+     * @throws IllegalArgumentException if neither a duration nor an iteration count is given,
+     *                                  the test class cannot be instantiated or the method cannot be invoked
+     */
+    public static LoadReport run(Class<?> testClass, String methodName, int users, long durationSeconds,
+            int iterations, long rampUpSeconds) {
+        if (users < 1 || (durationSeconds <= 0 && iterations <= 0)) {
+            throw new IllegalArgumentException("A load test needs at least one user and a duration or an iteration count");
+        }
+        final Method method = findTestMethod(testClass, methodName);
+        final List<Object[]> rows = dataRows(testClass, method);
+        // Created before any worker starts, so a class that cannot be instantiated fails the call
+        final List<Object> instances = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            instances.add(newInstance(testClass));
+        }
+        final long start = System.nanoTime();
+        final long deadline = durationSeconds > 0 ? start + TimeUnit.SECONDS.toNanos(durationSeconds) : Long.MAX_VALUE;
+        final LatencyHistogram iterationLatency = new LatencyHistogram();
+        final LoadErrors errors = new LoadErrors();
+        StepRecorder.reset();
+
+        ExecutorService workers = Executors.newFixedThreadPool(users);
+        for (int user = 0; user < users; user++) {
+            final long delay = users == 1 ? 0 : TimeUnit.SECONDS.toNanos(rampUpSeconds) * user / users;
+            final int firstRow = user;
+            final Object instance = instances.get(user);
+            workers.execute(() -> runUser(instance, method, rows, firstRow, start + delay, deadline, iterations,
+                    iterationLatency, errors));
+        }
+        workers.shutdown();
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.SECONDS)) {
+                // wait for all users to finish their last iteration
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        LoadReport report = new LoadReport(testClass.getSimpleName() + "#" + methodName, users,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), errors, iterationLatency,
+                StepRecorder.getSteps());
+        if (ReportManager.getBaseReportFolderPath() == null) {
+            ReportManager.createReportFolder();
+        }
+        report.write(ReportManager.getBaseReportFolderPath());
+        return report;
+    }
+
+    /** Runs the iterations of one user on the current thread, reusing one session and test instance. */
+    private static void runUser(Object instance, Method method, List<Object[]> rows, int firstRow, long startAt,
+            long deadline, int iterations, LatencyHistogram iterationLatency, LoadErrors errors) {
+        ConfigReader.setOverrides(Collections.singletonMap(ConfigPropertiesKey.HEADLESS.getKey(), "true"));
+        try {
+            long wait = startAt - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            for (int i = 0; (iterations <= 0 || i < iterations) && System.nanoTime() < deadline; i++) {
+                Object[] arguments = rows.get((firstRow + i) % rows.size());
+                try {
+                    WebDriver driver = DriverManager.initDriver(ConfigReader.getProperty(ConfigPropertiesKey.BROWSER));
+                    driver.manage().deleteAllCookies();
+                    driver.get(ConfigReader.getProperty(ConfigPropertiesKey.BASEURL));
+
+                    long iterationStart = System.nanoTime();
+                    StepRecorder.startIteration();
+                    method.invoke(instance, arguments);
+                    iterationLatency.record((System.nanoTime() - iterationStart) / 1000);
+                } catch (InvocationTargetException | RuntimeException e) {
+                    errors.record(e);
+                    // The session may be in any state after a failure; the next iteration starts a new one
+                    DriverManager.quitDriver();
+                } finally {
+                    StepRecorder.endIteration();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to run " + method + ": " + e.getMessage(), e);
+        } finally {
+            DriverManager.quitDriver();
+            TestContext.clear();
+            ConfigReader.clearOverrides();
+        }
+    }
+
+    /** Creates an instance of the test class with its no-argument constructor. */
+    private static Object newInstance(Class<?> testClass) {
+        try {
+            return testClass.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException("Constructor of " + testClass.getName() + " failed: "
+                    + e.getCause(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to create " + testClass.getName()
+                    + " (it needs a public no-argument constructor): " + e, e);
+        }
+    }
+
+    private static Method findTestMethod(Class<?> testClass, String methodName) {
+        for (Method method : testClass.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException("No public method '" + methodName + "' in " + testClass.getName());
+    }
+
+    /** Returns the rows of the method's data provider, or a single empty row. */
+    private static List<Object[]> dataRows(Class<?> testClass, Method method) {
+        Test test = method.getAnnotation(Test.class);
+        if (test == null || test.dataProvider().isEmpty()) {
+            return Collections.singletonList(new Object[0]);
+        }
+        Class<?> providerClass = test.dataProviderClass() == Object.class ? testClass : test.dataProviderClass();
+        for (Method provider : providerClass.getMethods()) {
+            DataProvider annotation = provider.getAnnotation(DataProvider.class);
+            String name = annotation == null ? null : annotation.name().isEmpty() ? provider.getName() : annotation.name();
+            if (test.dataProvider().equals(name)) {
+                try {
+                    Object target = Modifier.isStatic(provider.getModifiers()) ? null
+                            : providerClass.getDeclaredConstructor().newInstance();
+                    Object[][] data = (Object[][]) provider.invoke(target);
+                    if (data.length == 0) {
+                        throw new IllegalArgumentException("Data provider '" + name + "' returned no rows");
+                    }
+                    return Arrays.asList(data);
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new IllegalArgumentException("Unable to use data provider '" + name
+                            + "' (it must take no arguments and return Object[][]): " + e.getMessage(), e);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Data provider '" + test.dataProvider() + "' not found in " + providerClass.getName());
+    }
+}
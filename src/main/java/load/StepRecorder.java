@@ -0,0 +1,86 @@
+package load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import reports.StepTimeline;
+
+/**
+ * Records per-step latencies of load test iterations from {@link reports.Logger} step markers.
+ * <p>
+ * While a {@link LoadRunner} worker runs an iteration, every {@code Logger} call on its thread
+ * marks the end of a step: the time since the previous marker (or the start of the iteration)
+ * is recorded, in microseconds, into the histogram of that step. A step is named after the log
+ * message up to its first colon, so {@code "Entered username: jane"} and
+ * {@code "Entered username: joe"} are the same step. Outside load runs nothing is recorded and
+ * {@link #isRecording()} is a single thread-local read.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class StepRecorder {
+
+    /** Start of the current step (nanoTime) on load worker threads, {@code null} elsewhere. */
+    private static final ThreadLocal<long[]> stepStart = new ThreadLocal<>();
+
+    /** Step name → latency histogram of the current run. */
+    private static volatile Map<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+
+    /** Step names in the order they were first recorded. */
+    private static volatile Queue<String> order = new ConcurrentLinkedQueue<>();
+
+    /** Private constructor to prevent instantiation. */
+    private StepRecorder() {}
+
+    /** Returns whether the current thread is running a load test iteration. */
+    public static boolean isRecording() {
+        return stepStart.get() != null;
+    }
+
+    /**
+     * Ends the current step and starts the next one.
+     *
+     * @param message The log message marking the end of the step
+     */
+    public static void step(String message) {
+        long[] start = stepStart.get();
+        if (start == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        steps.computeIfAbsent(StepTimeline.stepName(message), name -> {
+            order.add(name);
+            return new LatencyHistogram();
+        }).record((now - start[0]) / 1000);
+        start[0] = now;
+    }
+
+    /** Clears the step histograms before a new run. */
+    static void reset() {
+        steps = new ConcurrentHashMap<>();
+        order = new ConcurrentLinkedQueue<>();
+    }
+
+    /** Returns the step histograms of the current run, in the order the steps were first recorded. */
+    static Map<String, LatencyHistogram> getSteps() {
+        Map<String, LatencyHistogram> ordered = new LinkedHashMap<>();
+        for (String name : order) {
+            ordered.put(name, steps.get(name));
+        }
+        return ordered;
+    }
+
+    /** Starts recording an iteration on the current thread. */
+    static void startIteration() {
+        stepStart.set(new long[] {System.nanoTime()});
+    }
+
+    /** Stops recording on the current thread. */
+    static void endIteration() {
+        stepStart.remove();
+    }
+}
@@ -30,6 +30,21 @@
  * }
  * }</pre>
  *
+ * <h2>⚙️ Generated Element Accessors</h2>
+ * <p>
+ * Annotate an interface with {@link pagegen.GeneratePage} to generate, at compile time, a
+ * class with one lazily resolved accessor per locator ({@code LoginPageLocators} →
+ * {@code LoginPageElements}). Page classes can use it instead of
+ * {@code PageFactory.initElements}, which builds reflective proxies for every page instance.
+ * </p>
+ * <pre>{@code
+ * @GeneratePage
+ * public interface LoginPageLocators { ... }
+ *
+ * LoginPageElements elements = new LoginPageElements();
+ * elements.btnLogin().click();
+ * }</pre>
+ *
  * <h2>🧠 Best Practices</h2>
  * <ul>
  *   <li>Keep locators private to the interface but public static by default.</li>
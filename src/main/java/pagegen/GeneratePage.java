@@ -0,0 +1,47 @@
+package pagegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a locator interface from which {@link PageElementsProcessor} generates an element
+ * accessor class at compile time.
+ * <p>
+ * Every {@code By} constant of the interface (including inherited ones) becomes a method
+ * of the generated class returning the element, plus a {@code <name>List()} method
+ * returning all matching elements. Elements are looked up when the method is called, with
+ * no reflection or proxies, so creating a page object costs one small allocation.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * @GeneratePage
+ * public interface LoginPageLocators {
+ *     By txtUsername = By.id("username");
+ *     By btnLogin = By.id("loginBtn");
+ * }
+ *
+ * // Generated: pageObjects.LoginPageElements
+ * LoginPageElements login = new LoginPageElements();
+ * login.txtUsername().sendKeys("jane");
+ * login.btnLogin().click();
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GeneratePage {
+
+    /**
+     * Simple name of the generated class. Defaults to the interface name with a trailing
+     * {@code Locators} replaced by {@code Elements} ({@code LoginPageLocators} →
+     * {@code LoginPageElements}), or with {@code Elements} appended.
+     */
+    String value() default "";
+}
@@ -0,0 +1,201 @@
+package pagegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates element accessor classes for locator interfaces
+ * annotated with {@link GeneratePage}.
+ * <p>
+ * The generated class lives in the interface's package and has one method per {@code By}
+ * constant. Each method resolves the element from its search context when called:
+ * </p>
+ * <pre>{@code
+ * public WebElement btnLogin() {
+ *     return searchContext().findElement(pageObjects.LoginPageLocators.btnLogin);
+ * }
+ * }</pre>
+ * <p>
+ * Without a context argument the class resolves against {@link driver.DriverManager#getDriver()}
+ * at call time, so a page object can be created before the driver and used on any thread's
+ * driver; pass an element as context to scope lookups to a component. Lookups go through the
+ * driver, so they use the element cache when it is enabled.
+ * </p>
+ *
+ * <p>Constants whose accessor names collide (a {@code foo} next to a {@code fooList}, or a
+ * constant named {@code searchContext}) are reported as compile errors and no class is
+ * generated for the interface.</p>
+ *
+ * <p>Registered through {@code META-INF/services/javax.annotation.processing.Processor}, so it
+ * runs for every compilation that has this framework on its classpath.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class PageElementsProcessor extends AbstractProcessor {
+
+    private static final String BY = "org.openqa.selenium.By";
+
+    /** Name of the private helper method of the generated class, unavailable to accessors. */
+    private static final String SEARCH_CONTEXT = "searchContext";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GeneratePage.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(GeneratePage.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@GeneratePage can only be used on locator interfaces");
+                continue;
+            }
+            TypeElement locators = (TypeElement) element;
+            List<String> fields = locatorFields(locators);
+            if (fields.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "@GeneratePage interface declares no By constants", element);
+            }
+            if (hasNameCollisions(locators, fields)) {
+                continue;
+            }
+            try {
+                write(locators, fields);
+            } catch (IOException e) {
+                error(element, "Unable to generate page elements: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /** Returns the names of the interface's {@code By} constants, declared and inherited. */
+    private List<String> locatorFields(TypeElement locators) {
+        TypeMirror by = processingEnv.getElementUtils().getTypeElement(BY).asType();
+        Set<String> names = new LinkedHashSet<>();
+        for (Element member : processingEnv.getElementUtils().getAllMembers(locators)) {
+            if (member.getKind() == ElementKind.FIELD && member.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(((VariableElement) member).asType(), by)) {
+                names.add(member.getSimpleName().toString());
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Reports an error for every accessor name that two constants would both generate.
+     *
+     * @return {@code true} if any collision was reported
+     */
+    private boolean hasNameCollisions(TypeElement locators, List<String> fields) {
+        Map<String, String> owners = new HashMap<>();
+        owners.put(SEARCH_CONTEXT, null);
+        boolean collision = false;
+        for (String field : fields) {
+            for (String method : new String[] {field, field + "List"}) {
+                if (!owners.containsKey(method)) {
+                    owners.put(method, field);
+                    continue;
+                }
+                String owner = owners.get(method);
+                error(locators, "By constant '" + field + "' generates method " + method + "(), which "
+                        + (owner == null ? "the generated class uses internally; rename the constant"
+                                : "constant '" + owner + "' also generates; rename one of them"));
+                collision = true;
+            }
+        }
+        return collision;
+    }
+
+    /** Writes the generated accessor class for the interface. */
+    private void write(TypeElement locators, List<String> fields) throws IOException {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(locators);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String className = className(locators);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        String source = locators.getQualifiedName().toString();
+
+        StringBuilder java = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            java.append("package ").append(packageName).append(";\n\n");
+        }
+        java.append("import java.util.List;\n\n")
+            .append("import org.openqa.selenium.SearchContext;\n")
+            .append("import org.openqa.selenium.WebElement;\n\n")
+            .append("import driver.DriverManager;\n\n")
+            .append("/**\n")
+            .append(" * Element accessors for {@link ").append(source).append("}.\n")
+            .append(" * <p>Generated by {@link pagegen.PageElementsProcessor}; do not edit.</p>\n")
+            .append(" */\n")
+            .append("public final class ").append(className).append(" {\n\n")
+            .append("    private final SearchContext context;\n\n")
+            .append("    /** Creates accessors resolving against the current thread's driver. */\n")
+            .append("    public ").append(className).append("() {\n")
+            .append("        this(null);\n")
+            .append("    }\n\n")
+            .append("    /** Creates accessors resolving against the given driver or element. */\n")
+            .append("    public ").append(className).append("(SearchContext context) {\n")
+            .append("        this.context = context;\n")
+            .append("    }\n");
+        for (String field : fields) {
+            String locator = source + "." + field;
+            String link = source + "#" + field;
+            java.append("\n    /** Returns the element located by {@link ").append(link).append("}. */\n")
+                .append("    public WebElement ").append(field).append("() {\n")
+                .append("        return ").append(SEARCH_CONTEXT).append("().findElement(").append(locator).append(");\n")
+                .append("    }\n\n")
+                .append("    /** Returns all elements located by {@link ").append(link).append("}. */\n")
+                .append("    public List<WebElement> ").append(field).append("List() {\n")
+                .append("        return ").append(SEARCH_CONTEXT).append("().findElements(").append(locator).append(");\n")
+                .append("    }\n");
+        }
+        java.append("\n    private SearchContext ").append(SEARCH_CONTEXT).append("() {\n")
+            .append("        return context != null ? context : DriverManager.getDriver();\n")
+            .append("    }\n")
+            .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, locators).openWriter()) {
+            writer.write(java.toString());
+        }
+    }
+
+    /** Returns the simple name of the class generated for the interface. */
+    private static String className(TypeElement locators) {
+        String name = locators.getAnnotation(GeneratePage.class).value();
+        if (!name.isEmpty()) {
+            return name;
+        }
+        String simpleName = locators.getSimpleName().toString();
+        return simpleName.endsWith("Locators") && simpleName.length() > "Locators".length()
+                ? simpleName.substring(0, simpleName.length() - "Locators".length()) + "Elements"
+                : simpleName + "Elements";
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
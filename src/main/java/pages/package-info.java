@@ -72,6 +72,8 @@
  *   <li>Use {@code WaitUtils} for element synchronization.</li>
  *   <li>Use {@code Logger} for step reporting with or without screenshots.</li>
  *   <li>Avoid using {@code Thread.sleep()} — prefer explicit or fluent waits.</li>
+ *   <li>Prefer accessors generated from {@code @GeneratePage} locator interfaces over
+ *       {@code PageFactory.initElements} in pages that are created often.</li>
  * </ul>
  *
  * <h2>📁 Recommended Folder Structure</h2>
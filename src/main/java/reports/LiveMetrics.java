@@ -0,0 +1,228 @@
+package reports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Live counters of a running suite, served in OpenMetrics (Prometheus) text format.
+ * <p>
+ * The framework updates the counters as tests finish, browsers are launched and quit, waits
+ * complete and reports are flushed. With {@code metricsPort} set, {@link listener.Listener}
+ * starts an HTTP endpoint on {@code http://127.0.0.1:<port>/metrics} for the duration of the
+ * suite. The endpoint only listens on the loopback interface.
+ * </p>
+ *
+ * <p>Updating a counter is a single {@link LongAdder} or atomic increment. The text is only
+ * rendered when the endpoint is scraped, on the server's own thread, so an unscraped
+ * endpoint costs nothing.</p>
+ *
+ * <p><b>Exposed metrics:</b></p>
+ * <ul>
+ *   <li>{@code automation_tests_total{result}} – tests passed, failed and skipped</li>
+ *   <li>{@code automation_tests_per_minute} – completed tests per minute since the suite started</li>
+ *   <li>{@code automation_retry_seconds} – retried attempts (count and time spent in them)</li>
+ *   <li>{@code automation_browsers_active} – open browser sessions</li>
+ *   <li>{@code automation_driver_launch_seconds} – driver launches (count, sum and average)</li>
+ *   <li>{@code automation_wait_seconds} – explicit waits (count and sum)</li>
+ *   <li>{@code automation_report_queue_depth} – report nodes not yet flushed to disk</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * mvn test -DmetricsPort=9464
+ * curl http://127.0.0.1:9464/metrics
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class LiveMetrics {
+
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static final LongAdder passed = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static final LongAdder skipped = new LongAdder();
+    private static final LongAdder retries = new LongAdder();
+    private static final LongAdder retryMillis = new LongAdder();
+    private static final AtomicInteger activeBrowsers = new AtomicInteger();
+    private static final LongAdder driverLaunches = new LongAdder();
+    private static final LongAdder driverLaunchNanos = new LongAdder();
+    private static final LongAdder waits = new LongAdder();
+    private static final LongAdder waitNanos = new LongAdder();
+    private static final AtomicLong reportQueue = new AtomicLong();
+
+    /** Start of the current suite (nanoTime). */
+    private static volatile long suiteStart = System.nanoTime();
+
+    /** The running endpoint, or {@code null}. */
+    private static HttpServer server;
+
+    /** Private constructor to prevent instantiation. */
+    private LiveMetrics() {}
+
+    /**
+     * Starts the metrics endpoint on the loopback interface, unless it is already running.
+     * If the port cannot be bound, a warning is printed and the suite runs without the endpoint.
+     *
+     * @param port The port, or 0 or less to leave the endpoint disabled
+     */
+    public static synchronized void start(int port) {
+        suiteStart = System.nanoTime();
+        if (port <= 0 || server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            System.err.println("[LiveMetrics] Metrics endpoint disabled, unable to listen on port " + port + ": " + e);
+            return;
+        }
+        server.createContext("/metrics", LiveMetrics::serve);
+        server.start();
+    }
+
+    /** Stops the metrics endpoint, if it is running. */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /** Counts a passed test. */
+    public static void testPassed() {
+        passed.increment();
+    }
+
+    /** Counts a failed test. */
+    public static void testFailed() {
+        failed.increment();
+    }
+
+    /** Counts a skipped test. */
+    public static void testSkipped() {
+        skipped.increment();
+    }
+
+    /**
+     * Counts a failed attempt that is retried.
+     *
+     * @param millis The duration of the attempt
+     */
+    public static void testRetried(long millis) {
+        retries.increment();
+        retryMillis.add(millis);
+    }
+
+    /**
+     * Counts a launched browser session.
+     *
+     * @param launchNanos The time the launch took, in nanoseconds
+     */
+    public static void browserLaunched(long launchNanos) {
+        activeBrowsers.incrementAndGet();
+        driverLaunches.increment();
+        driverLaunchNanos.add(launchNanos);
+    }
+
+    /** Counts a browser session that was quit. */
+    public static void browserQuit() {
+        activeBrowsers.decrementAndGet();
+    }
+
+    /**
+     * Counts a completed or timed-out explicit wait.
+     *
+     * @param nanos The time waited, in nanoseconds
+     */
+    public static void waited(long nanos) {
+        waits.increment();
+        waitNanos.add(nanos);
+    }
+
+    /** Counts a report node waiting to be flushed. Called by {@link ReportManager#createTest}. */
+    public static void reportNodeCreated() {
+        reportQueue.incrementAndGet();
+    }
+
+    /**
+     * Removes flushed report nodes from the queue. Called by {@link ReportManager#flush} with
+     * every node created since the report's last flush, including nodes of retried attempts.
+     *
+     * @param nodes The number of nodes written by the flush
+     */
+    public static void reportFlushed(long nodes) {
+        reportQueue.accumulateAndGet(nodes, (queued, flushed) -> Math.max(0, queued - flushed));
+    }
+
+    /** Returns the current metrics in OpenMetrics text format. */
+    public static String render() {
+        long completed = passed.sum() + failed.sum() + skipped.sum();
+        double minutes = Math.max(1e-9, (System.nanoTime() - suiteStart) / 60e9);
+        long launches = driverLaunches.sum();
+        double launchSeconds = driverLaunchNanos.sum() / 1e9;
+
+        StringBuilder out = new StringBuilder(1024);
+        out.append("# TYPE automation_tests counter\n")
+           .append("# HELP automation_tests Tests completed, by result.\n")
+           .append("automation_tests_total{result=\"passed\"} ").append(passed.sum()).append('\n')
+           .append("automation_tests_total{result=\"failed\"} ").append(failed.sum()).append('\n')
+           .append("automation_tests_total{result=\"skipped\"} ").append(skipped.sum()).append('\n');
+        gauge(out, "automation_tests_per_minute", "Completed tests per minute since the suite started.", completed / minutes);
+        out.append("# TYPE automation_retry_seconds summary\n")
+           .append("# HELP automation_retry_seconds Time spent in failed attempts that were retried.\n")
+           .append("automation_retry_seconds_count ").append(retries.sum()).append('\n')
+           .append("automation_retry_seconds_sum ").append(number(retryMillis.sum() / 1000.0)).append('\n');
+        gauge(out, "automation_browsers_active", "Open browser sessions.", activeBrowsers.get());
+        out.append("# TYPE automation_driver_launch_seconds summary\n")
+           .append("# HELP automation_driver_launch_seconds Time taken to launch browser sessions.\n")
+           .append("automation_driver_launch_seconds_count ").append(launches).append('\n')
+           .append("automation_driver_launch_seconds_sum ").append(number(launchSeconds)).append('\n');
+        gauge(out, "automation_driver_launch_seconds_average", "Average time taken to launch a browser session.",
+                launches == 0 ? 0 : launchSeconds / launches);
+        out.append("# TYPE automation_wait_seconds summary\n")
+           .append("# HELP automation_wait_seconds Time spent in explicit waits.\n")
+           .append("automation_wait_seconds_count ").append(waits.sum()).append('\n')
+           .append("automation_wait_seconds_sum ").append(number(waitNanos.sum() / 1e9)).append('\n');
+        gauge(out, "automation_report_queue_depth", "Report nodes not yet flushed to disk.", reportQueue.get());
+        return out.append("# EOF\n").toString();
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, double value) {
+        out.append("# TYPE ").append(name).append(" gauge\n")
+           .append("# HELP ").append(name).append(' ').append(help).append('\n')
+           .append(name).append(' ').append(number(value)).append('\n');
+    }
+
+    private static String number(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -6,6 +6,7 @@ import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
 
 import driver.DriverManager;
+import load.StepRecorder;
 import utils.ScreenshotUtils;
 
 /**
@@ -22,6 +23,8 @@ import utils.ScreenshotUtils;
  *   <li>Logging messages with optional screenshots</li>
  *   <li>Automatic screenshot capture using {@link ScreenshotUtils}</li>
  *   <li>Thread-safe execution with {@link DriverManager}</li>
+ *   <li>Calls double as step markers for load test latency histograms ({@link StepRecorder})</li>
+ *   <li>Messages are suffixed with their step time and offset in the test ({@link StepTimeline})</li>
  * </ul>
  *
  * <p><b>Usage Example:</b></p>
@@ -42,27 +45,27 @@ public class Logger {
 
     /** Logs an informational message. */
     public static void info(String message) {
-        TestManager.getTest().log(Status.INFO, message);
+        log(Status.INFO, message);
     }
 
     /** Logs a PASS status message. */
     public static void pass(String message) {
-        TestManager.getTest().log(Status.PASS, message);
+        log(Status.PASS, message);
     }
 
     /** Logs a FAIL status message. */
     public static void fail(String message) {
-        TestManager.getTest().log(Status.FAIL, message);
+        log(Status.FAIL, message);
     }
 
     /** Logs a WARNING status message. */
     public static void warning(String message) {
-        TestManager.getTest().log(Status.WARNING, message);
+        log(Status.WARNING, message);
     }
 
     /** Logs a SKIP status message. */
     public static void skip(String message) {
-        TestManager.getTest().log(Status.SKIP, message);
+        log(Status.SKIP, message);
     }
 
     /** Logs an INFO message with an attached screenshot. */
@@ -90,6 +93,28 @@ public class Logger {
         attachScreenshot(Status.SKIP, message);
     }
 
+    /**
+     * Logs a message to the current test node with its {@link StepTimeline} timing, or records
+     * it as a step marker during a load test iteration (see {@link StepRecorder}), where no
+     * report node exists.
+     *
+     * @param status  The log status
+     * @param message The log message
+     */
+    private static void log(Status status, String message) {
+        if (StepRecorder.isRecording()) {
+            StepRecorder.step(message);
+            return;
+        }
+        TestManager.getTest().log(status, timed(message));
+    }
+
+    /** Marks the end of a step in the {@link StepTimeline} and appends its timing to the message. */
+    private static String timed(String message) {
+        String timing = StepTimeline.mark(message);
+        return timing == null ? message : message + " (" + timing + ")";
+    }
+
     /**
      * Captures a screenshot from the active {@link WebDriver} instance and attaches it
      * to the Extent Report under the specified {@link Status}.
@@ -102,16 +127,22 @@ public class Logger {
      * @param message The log message to be displayed in the report
      */
     private static void attachScreenshot(Status status, String message) {
+        if (StepRecorder.isRecording()) {
+            // Screenshots would distort the step latencies of a load test
+            StepRecorder.step(message);
+            return;
+        }
+        String timedMessage = timed(message);
         WebDriver driver = DriverManager.getDriver();
         try {
             if (driver != null) {
                 String path = ScreenshotUtils.captureScreenshot(
                         driver, message.replaceAll("[^a-zA-Z0-9]", "_"));
                 TestManager.getTest().log(
-                        status, message,
+                        status, timedMessage,
                         MediaEntityBuilder.createScreenCaptureFromBase64String(path).build());
             } else {
-                TestManager.getTest().log(status, message + " (screenshot skipped - driver not set)");
+                TestManager.getTest().log(status, timedMessage + " (screenshot skipped - driver not set)");
             }
         } catch (Exception e) {
             TestManager.getTest().log(Status.WARNING, "Failed to attach screenshot: " + e.getMessage());
@@ -3,11 +3,19 @@ package reports;
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 
 import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
+import base.TestContext;
 import config.ConfigReader;
 import constants.ConfigPropertiesKey;
 import constants.Constants;
@@ -16,8 +24,14 @@ import constants.Constants;
  * Utility class responsible for managing ExtentReports setup and report generation.
  * <p>
  * This class provides centralized control over report creation, storage, and access.
- * It dynamically generates timestamped report folders and creates per-suite or per-test
- * HTML reports using {@link ExtentSparkReporter}.
+ * It dynamically generates timestamped report folders and creates one HTML report per
+ * TestNG &lt;test&gt; using {@link ExtentSparkReporter}.
+ * </p>
+ * <p>
+ * Reports are kept in a concurrent registry keyed by {@link ITestContext}, so they can be
+ * looked up from any thread, whichever thread created them. Extent reports are not safe for
+ * concurrent node creation or flushing, so {@link #createTest} and {@link #flush} lock on the
+ * report; callers creating nodes themselves must do the same.
  * </p>
  *
  * <p><b>Usage:</b></p>
@@ -25,15 +39,15 @@ import constants.Constants;
  * // Before suite execution
  * ReportManager.createReportFolder();
  *
- * // Before each test (e.g., in @BeforeTest)
- * ExtentReports report = ReportManager.createInstance("RegressionTest");
+ * // Before each &lt;test&gt; (ITestListener.onStart)
+ * ReportManager.createInstance(context);
  *
- * // During test
- * ExtentTest test = report.createTest("Login Test");
+ * // When a test method starts, on any thread
+ * ExtentTest test = ReportManager.createTest(result.getTestContext(), "Login Test", "chrome");
  * test.pass("Login successful");
  *
- * // After test
- * report.flush();
+ * // After the &lt;test&gt; (ITestListener.onFinish)
+ * ReportManager.close(context);
  * </pre>
  * 
  * @author 
@@ -41,14 +55,14 @@ import constants.Constants;
  */
 public class ReportManager {
 
-    /** Shared ExtentReports instance for the current thread/test */
-    private static ExtentReports extent;
-
     /** Base folder path where reports are generated */
-    private static String baseReportFolderPath;
+    private static volatile String baseReportFolderPath;
 
-    /** Thread-local storage for parallel-safe ExtentReports handling */
-    private static ThreadLocal<ExtentReports> extentThread = new ThreadLocal<>();
+    /** Report of each running TestNG &lt;test&gt; */
+    private static final Map<ITestContext, ExtentReports> reports = new ConcurrentHashMap<>();
+
+    /** Number of nodes created in the report of each &lt;test&gt; since its last flush, for {@link LiveMetrics} */
+    private static final Map<ITestContext, Long> unflushedNodes = new ConcurrentHashMap<>();
 
     /**
      * Creates the base folder for storing reports for the current suite run.
@@ -70,15 +84,19 @@ public class ReportManager {
     }
 
     /**
-     * Initializes and returns a new {@link ExtentReports} instance for a given TestNG test.
+     * Returns the report of a TestNG &lt;test&gt;, creating it on first use.
      * <p>
      * A separate HTML report file is created under the base report folder for each test.
      * </p>
      *
-     * @param testName The name of the test (as defined in testng.xml)
+     * @param context The TestNG test context
      * @return Configured {@link ExtentReports} instance
      */
-    public static ExtentReports createInstance(String testName) {
+    public static ExtentReports createInstance(ITestContext context) {
+        return reports.computeIfAbsent(context, c -> newReport(c.getName()));
+    }
+
+    private static ExtentReports newReport(String testName) {
         String reportPath = baseReportFolderPath + File.separator + testName + "_ExtentReport.html";
         ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
 
@@ -87,26 +105,95 @@ public class ReportManager {
         sparkReporter.config().setReportName("Execution Report for " + testName);
         sparkReporter.config().setTheme(Theme.STANDARD);
 
-        extent = new ExtentReports();
+        ExtentReports extent = new ExtentReports();
         extent.attachReporter(sparkReporter);
         extent.setSystemInfo("OS", System.getProperty("os.name"));
 //        extent.setSystemInfo("Tester", "Automation User");
         extent.setSystemInfo("Test Name", testName);
-
-        extentThread.set(extent);
         return extent;
     }
 
     /**
-     * Retrieves the {@link ExtentReports} instance associated with the current thread.
-     * <p>
-     * This allows thread-safe access during parallel test execution.
-     * </p>
+     * Retrieves the report of a TestNG &lt;test&gt;.
+     *
+     * @param context The TestNG test context
+     * @return The {@link ExtentReports} instance, or {@code null} if none was created
+     */
+    public static ExtentReports getExtent(ITestContext context) {
+        return reports.get(context);
+    }
+
+    /**
+     * Retrieves the report of the test running on the current thread: the report of the
+     * current {@link TestContext}, or else of the TestNG &lt;test&gt; whose method is running.
      *
-     * @return The {@link ExtentReports} instance for the current thread
+     * @return The {@link ExtentReports} instance, or {@code null} outside a test
      */
     public static ExtentReports getExtent() {
-        return extentThread.get();
+        TestContext context = TestContext.get();
+        if (context != null && context.getReport() != null) {
+            return context.getReport();
+        }
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null ? null : reports.get(result.getTestContext());
+    }
+
+    /**
+     * Creates a node in the report of a TestNG &lt;test&gt;. Safe to call from any number of
+     * threads at once.
+     *
+     * @param context    The TestNG test context
+     * @param name       The node name
+     * @param device     The device (browser) to tag the node with, or {@code null}
+     * @param categories Categories to tag the node with
+     * @return The new node
+     * @throws IllegalStateException if no report was created for the context
+     */
+    public static ExtentTest createTest(ITestContext context, String name, String device, String... categories) {
+        ExtentReports report = reports.get(context);
+        if (report == null) {
+            throw new IllegalStateException("No report was created for <test> '" + context.getName() + "'");
+        }
+        synchronized (report) {
+            ExtentTest node = report.createTest(name);
+            if (device != null) {
+                node.assignDevice(device);
+            }
+            if (categories.length > 0) {
+                node.assignCategory(categories);
+            }
+            unflushedNodes.merge(context, 1L, Long::sum);
+            LiveMetrics.reportNodeCreated();
+            return node;
+        }
+    }
+
+    /**
+     * Writes the report of a TestNG &lt;test&gt; to disk, if it exists.
+     *
+     * @param context The TestNG test context
+     */
+    public static void flush(ITestContext context) {
+        ExtentReports report = reports.get(context);
+        if (report != null) {
+            synchronized (report) {
+                report.flush();
+                Long flushed = unflushedNodes.remove(context);
+                if (flushed != null) {
+                    LiveMetrics.reportFlushed(flushed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the report of a finished TestNG &lt;test&gt; to disk and removes it from the registry.
+     *
+     * @param context The TestNG test context
+     */
+    public static void close(ITestContext context) {
+        flush(context);
+        reports.remove(context);
     }
 
     /**
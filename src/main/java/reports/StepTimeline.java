@@ -0,0 +1,307 @@
+package reports;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+
+import com.aventstack.extentreports.ExtentTest;
+
+import base.TestContext;
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+
+/**
+ * Per-test timeline of steps, rendered as a waterfall in the report.
+ * <p>
+ * Every {@link Logger} call marks the end of a step: its monotonic offset from the start of
+ * the test and the time since the previous step are recorded, and {@code Logger} appends them
+ * to the message. With {@code traceUtilityCalls=true}, element actions of
+ * {@code utils.DriverUtils} and waits of {@code utils.WaitUtils} are recorded as steps too.
+ * When the test finishes, {@link listener.Listener} attaches the waterfall to the test node
+ * and adds the steps to suite-wide totals, written by {@link #writeReport(String)}.
+ * </p>
+ *
+ * <p>Each test has its own timeline in its {@link TestContext}, shared with work the test
+ * propagates to other threads. Marking a step stores a few values into the timeline's arrays
+ * under the timeline's lock, which is uncontended unless the test logs from several threads
+ * at once; the waterfall and the suite totals are only built once, when the test finishes.
+ * A mark costs well under a microsecond once the JIT has warmed up.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class StepTimeline {
+
+    /** Maximum number of rows in a test's waterfall; the longest steps are kept. */
+    private static final int WATERFALL_ROWS = 150;
+
+    /** Steps taking at least this share of the test are highlighted in the waterfall. */
+    private static final double CRITICAL_SHARE = 0.10;
+
+    /** Number of steps listed in each section of the suite report. */
+    private static final int REPORT_SIZE = 25;
+
+    /** Step name → totals across all tests of the suite. */
+    private static final Map<String, StepTotals> totals = new ConcurrentHashMap<>();
+
+    /** Summed duration, in nanoseconds, of all finished timelines. */
+    private static final AtomicLong totalTestTime = new AtomicLong();
+
+    /** Private constructor to prevent instantiation. */
+    private StepTimeline() {}
+
+    /** Starts a new timeline for the test starting on the current thread. */
+    public static void start() {
+        TestContext.current().setMetrics(Timeline.class,
+                new Timeline(ConfigReader.getBoolean(ConfigPropertiesKey.TRACEUTILITYCALLS)));
+    }
+
+    /**
+     * Ends the current step of the current thread's test.
+     *
+     * @param label The step label, usually the log message
+     * @return {@code "+<elapsed> ms @ <offset> s"} for the step, or {@code null} if no test is running
+     */
+    public static String mark(String label) {
+        Timeline timeline = current();
+        if (timeline == null) {
+            return null;
+        }
+        long[] step = timeline.mark(label, false);
+        long elapsed = step[0] / 1_000_000;
+        long offset = step[1] / 1_000_000;
+        StringBuilder timing = new StringBuilder(24).append('+').append(elapsed).append(" ms @ ")
+                .append(offset / 1000).append('.');
+        long millis = offset % 1000;
+        if (millis < 100) {
+            timing.append(millis < 10 ? "00" : "0");
+        }
+        return timing.append(millis).append(" s").toString();
+    }
+
+    /**
+     * Ends the current step with a utility call, if {@code traceUtilityCalls} is enabled. The
+     * step is labelled {@code <utility> <action>[<target>]}, for example
+     * {@code "WaitUtils visible[By.id=username]"}, and aggregated under its full label, so
+     * each action on each locator has its own suite total.
+     *
+     * @param utility The utility, for example {@code "WaitUtils"}
+     * @param action  The action or condition, for example {@code "click"} or {@code "visible"}
+     * @param target  The locator or conditions the call acted on
+     */
+    public static void markUtility(String utility, String action, Object target) {
+        Timeline timeline = current();
+        if (timeline != null && timeline.traceUtilities) {
+            timeline.mark(utility + ' ' + action + '[' + describe(target) + ']', true);
+        }
+    }
+
+    /**
+     * Describes a utility target: a locator's {@code "By.id: username"} becomes
+     * {@code "By.id=username"}, and the items of a collection are separated by commas.
+     */
+    private static String describe(Object target) {
+        if (target instanceof Collection) {
+            StringBuilder description = new StringBuilder();
+            for (Object item : (Collection<?>) target) {
+                description.append(description.length() == 0 ? "" : ", ").append(describe(item));
+            }
+            return description.toString();
+        }
+        String description = String.valueOf(target);
+        int separator = description.indexOf(": ");
+        return target instanceof By && separator > 0
+                ? description.substring(0, separator) + '=' + description.substring(separator + 2)
+                : description;
+    }
+
+    /**
+     * Finishes the current thread's timeline: attaches its waterfall to the test node and adds
+     * its steps to the suite totals.
+     *
+     * @param node The test's report node, or {@code null} to only record the totals
+     */
+    public static void finish(ExtentTest node) {
+        TestContext context = TestContext.get();
+        Timeline timeline = context == null ? null : context.getMetrics(Timeline.class);
+        if (context != null) {
+            context.setMetrics(Timeline.class, null);
+        }
+        if (timeline == null || timeline.size == 0) {
+            return;
+        }
+        synchronized (timeline) {
+            for (int i = 0; i < timeline.size; i++) {
+                String name = timeline.utility[i] ? timeline.labels[i] : stepName(timeline.labels[i]);
+                totals.computeIfAbsent(name, n -> new StepTotals())
+                        .add(timeline.durations[i]);
+            }
+            totalTestTime.addAndGet(timeline.last);
+        }
+        if (node != null) {
+            node.info(timeline.toWaterfall());
+        }
+    }
+
+    /** Returns the current test's timeline, or {@code null}. */
+    private static Timeline current() {
+        TestContext context = TestContext.get();
+        return context == null ? null : context.getMetrics(Timeline.class);
+    }
+
+    /**
+     * Returns the name steps are aggregated under: the message up to its first colon, so
+     * {@code "Entered username: jane"} and {@code "Entered username: joe"} are the same step.
+     *
+     * @param message The log message
+     * @return The step name
+     */
+    public static String stepName(String message) {
+        if (message == null) {
+            return "(unnamed)";
+        }
+        int colon = message.indexOf(':');
+        return (colon > 0 ? message.substring(0, colon) : message).trim();
+    }
+
+    /**
+     * Writes a plain-text report of the steps that took the most time across the suite, with
+     * each step's share of the summed test time.
+     *
+     * @param folderPath Folder in which {@code StepTimings_Report.txt} is created
+     */
+    public static void writeReport(String folderPath) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        File file = new File(folderPath, "StepTimings_Report.txt");
+        file.getParentFile().mkdirs();
+        List<Map.Entry<String, StepTotals>> steps = new ArrayList<>(totals.entrySet());
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("Steps with the most total time across all tests");
+            steps.sort(Comparator.comparingLong((Map.Entry<String, StepTotals> e) -> e.getValue().total).reversed());
+            writeSection(out, steps);
+            out.println();
+            out.println("Slowest single steps");
+            steps.sort(Comparator.comparingLong((Map.Entry<String, StepTotals> e) -> e.getValue().max).reversed());
+            writeSection(out, steps);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void writeSection(PrintWriter out, List<Map.Entry<String, StepTotals>> steps) {
+        out.println(String.format("%-60s %8s %10s %10s %10s %10s", "Step", "Count", "Total ms", "Mean ms", "Max ms", "% of tests"));
+        for (Map.Entry<String, StepTotals> entry : steps.subList(0, Math.min(REPORT_SIZE, steps.size()))) {
+            StepTotals s = entry.getValue();
+            synchronized (s) {
+                out.println(String.format(Locale.ROOT, "%-60s %8d %10d %10.1f %10d %10.1f",
+                        entry.getKey(), s.count, s.total / 1_000_000, s.total / 1e6 / s.count, s.max / 1_000_000,
+                        100.0 * s.total / Math.max(1, totalTestTime.get())));
+            }
+        }
+    }
+
+    /**
+     * Steps of one test, in primitive arrays grown by doubling. Steps logged by work propagated
+     * to other threads (see {@link TestContext#wrap(Runnable)}) are recorded under the lock.
+     */
+    private static class Timeline {
+
+        private final boolean traceUtilities;
+        private final long start = System.nanoTime();
+        private long last;
+        private int size;
+        private String[] labels = new String[64];
+        private long[] ends = new long[64];
+        private long[] durations = new long[64];
+        private boolean[] utility = new boolean[64];
+
+        Timeline(boolean traceUtilities) {
+            this.traceUtilities = traceUtilities;
+        }
+
+        /** Records a step ending now and returns its duration and its end offset, in nanoseconds. */
+        synchronized long[] mark(String label, boolean isUtility) {
+            long now = System.nanoTime() - start;
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                durations = Arrays.copyOf(durations, size * 2);
+                utility = Arrays.copyOf(utility, size * 2);
+            }
+            long duration = now - last;
+            labels[size] = label;
+            ends[size] = now;
+            durations[size] = duration;
+            utility[size] = isUtility;
+            size++;
+            last = now;
+            return new long[] {duration, now};
+        }
+
+        /** Renders the steps as an HTML waterfall; steps of at least 10% of the test are highlighted. */
+        synchronized String toWaterfall() {
+            Integer[] rows = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                rows[i] = i;
+            }
+            if (size > WATERFALL_ROWS) {
+                // Keep the longest steps, shown in timeline order
+                Arrays.sort(rows, (a, b) -> Long.compare(durations[b], durations[a]));
+                rows = Arrays.copyOf(rows, WATERFALL_ROWS);
+                Arrays.sort(rows);
+            }
+            double total = Math.max(1, last);
+            StringBuilder html = new StringBuilder("<details><summary>Step waterfall: ").append(size)
+                    .append(" steps in ").append(last / 1_000_000).append(" ms");
+            if (size > WATERFALL_ROWS) {
+                html.append(" (").append(WATERFALL_ROWS).append(" longest shown)");
+            }
+            html.append("</summary><table style='width:100%;font-size:11px;border-collapse:collapse'>");
+            for (int i : rows) {
+                double left = 100 * (ends[i] - durations[i]) / total;
+                double width = 100 * durations[i] / total;
+                String color = durations[i] >= CRITICAL_SHARE * total ? "#e05d5d" : utility[i] ? "#9bb7d4" : "#4a90d9";
+                html.append("<tr><td style='white-space:nowrap;max-width:320px;overflow:hidden;text-overflow:ellipsis'>")
+                    .append(escape(labels[i]))
+                    .append("</td><td style='width:60%'><div style='margin-left:")
+                    .append(String.format(Locale.ROOT, "%.2f", left)).append("%;width:")
+                    .append(String.format(Locale.ROOT, "%.2f", width)).append("%;min-width:1px;height:9px;background:")
+                    .append(color).append("'></div></td><td style='text-align:right;white-space:nowrap'>")
+                    .append(durations[i] / 1_000_000).append(" ms</td></tr>");
+            }
+            return html.append("</table></details>").toString();
+        }
+
+        private static String escape(String text) {
+            return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+        }
+    }
+
+    /** Suite-wide totals of one step name, in nanoseconds. */
+    private static class StepTotals {
+
+        private long count;
+        private long total;
+        private long max;
+
+        synchronized void add(long duration) {
+            count++;
+            total += duration;
+            max = Math.max(max, duration);
+        }
+    }
+}
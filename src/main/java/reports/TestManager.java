@@ -2,13 +2,15 @@ package reports;
 
 import com.aventstack.extentreports.ExtentTest;
 
+import base.TestContext;
+
 /**
  * Manages thread-safe instances of {@link ExtentTest} for parallel test execution.
  * <p>
  * This utility class ensures that each test running in a separate thread
  * (e.g., under TestNG parallel mode or Selenium Grid) maintains its own
- * {@link ExtentTest} instance. This prevents cross-thread logging issues
- * and ensures accurate report generation per test.
+ * {@link ExtentTest} instance, kept in the test's {@link TestContext}. This prevents
+ * cross-thread logging issues and ensures accurate report generation per test.
  * </p>
  *
  * <p><b>Usage Example:</b></p>
@@ -22,12 +24,9 @@ import com.aventstack.extentreports.ExtentTest;
  * @version 1.0
  */
 public class TestManager {
-    
-    /** Thread-local variable to maintain a unique ExtentTest instance per thread. */
-    private static final ThreadLocal<ExtentTest> extentTestThread = new ThreadLocal<>();
 
     /**
-     * Associates an {@link ExtentTest} instance with the current thread.
+     * Associates an {@link ExtentTest} instance with the current test.
      * <p>
      * Typically called when a new test starts (e.g., in {@code onTestStart()}).
      * </p>
@@ -35,20 +34,21 @@ public class TestManager {
      * @param test The {@link ExtentTest} instance to associate with the current thread.
      */
     public static void setTest(ExtentTest test) {
-        extentTestThread.set(test);
+        TestContext.current().setNode(test);
     }
 
     /**
-     * Retrieves the {@link ExtentTest} instance associated with the current thread.
+     * Retrieves the {@link ExtentTest} instance associated with the current test.
      * <p>
      * Used by loggers or reporting utilities to record test steps
      * for the currently executing test.
      * </p>
      *
-     * @return The current thread’s {@link ExtentTest} instance, or {@code null} if not set.
+     * @return The current test’s {@link ExtentTest} instance, or {@code null} if not set.
      */
     public static ExtentTest getTest() {
-        return extentTestThread.get();
+        TestContext context = TestContext.get();
+        return context == null ? null : context.getNode();
     }
 
     /**
@@ -66,13 +66,16 @@ public class TestManager {
     }
 
     /**
-     * Removes the {@link ExtentTest} instance associated with the current thread.
+     * Removes the {@link ExtentTest} instance associated with the current test.
      * <p>
-     * Should be called at the end of each test to free up memory and
-     * prevent thread leakage in long-running executions.
+     * {@link listener.Listener} clears the whole {@link TestContext} after each test, so
+     * this is only needed to detach the node earlier.
      * </p>
      */
     public static void unload() {
-        extentTestThread.remove();
+        TestContext context = TestContext.get();
+        if (context != null) {
+            context.setNode(null);
+        }
     }
 }
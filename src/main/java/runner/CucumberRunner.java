@@ -0,0 +1,161 @@
+package runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+
+import com.aventstack.extentreports.ExtentTest;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import driver.DriverManager;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+import reports.ReportManager;
+import reports.TestManager;
+
+/**
+ * Base class for running Cucumber feature files as parallel TestNG tests.
+ * <p>
+ * Every scenario is one invocation of a parallel TestNG data provider, so scenarios (not
+ * whole features) are spread across a worker pool of {@code threadCount} threads, or run
+ * one at a time when {@code parallel=false}. A {@code data-provider-thread-count} set on the
+ * suite takes precedence. Each scenario gets the same lifecycle as a {@link base.BaseClass} test: its own {@link DriverManager} browser opened on the base URL
+ * and quit afterwards, and its own Extent test node, to which {@link ExtentCucumberPlugin}
+ * logs every step with its duration.
+ * </p>
+ *
+ * <p>Feature files are parsed once per runner class, and step definitions are loaded once
+ * per worker thread and reused for all the scenarios it runs.</p>
+ *
+ * <p><b>Suite-wide pool size:</b></p>
+ * TestNG has one data provider pool size per suite, not per provider, so when the suite sets
+ * no {@code data-provider-thread-count} the runner sets it on the suite. Every other parallel
+ * data provider of the suite that runs while the runner's class is running (e.g. with
+ * {@code parallel="classes"}) uses the same size. The suite's value is restored when the
+ * runner's class finishes. Set {@code data-provider-thread-count} in the suite XML to size all
+ * parallel providers explicitly.
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * &#64;CucumberOptions(features = "src/test/resources/features", glue = "stepDefinitions", tags = "@smoke")
+ * public class SmokeRunner extends CucumberRunner {
+ * }
+ * </pre>
+ * Plugins declared by the subclass are added to the Extent plugin.
+ *
+ * @author
+ * @version 1.0
+ */
+@CucumberOptions(plugin = "runner.ExtentCucumberPlugin")
+public abstract class CucumberRunner extends AbstractTestNGCucumberTests {
+
+    /** The &lt;test&gt; whose report the scenarios of this runner are logged to. */
+    private ITestContext testContext;
+
+    /** Whether the report was created by this runner (no {@link listener.Listener} registered). */
+    private boolean ownReport;
+
+    /** The suite's data provider pool size before the runner resized it, or 0 if it did not. */
+    private int suiteDataProviderThreadCount;
+
+    /**
+     * Sizes the scenario worker pool, unless the suite sets its own
+     * {@code data-provider-thread-count}, and resolves the report of the current &lt;test&gt;.
+     * The pool size is set on the suite, so it applies to every parallel data provider of the
+     * suite until {@link #tearDownScenarios()} restores it.
+     *
+     * @param context The current test context
+     */
+    @BeforeClass(alwaysRun = true)
+    public void setUpScenarios(ITestContext context) {
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        // TestNG has no "unset" value, so the default count stands for a suite that sets none
+        if (suite.getDataProviderThreadCount() == XmlSuite.DEFAULT_DATA_PROVIDER_THREAD_COUNT) {
+            int workers = ConfigReader.getBoolean(ConfigPropertiesKey.PARALLEL)
+                    ? ConfigReader.getInt(ConfigPropertiesKey.THREADCOUNT, 1) : 1;
+            suiteDataProviderThreadCount = suite.getDataProviderThreadCount();
+            suite.setDataProviderThreadCount(Math.max(1, workers));
+        }
+
+        testContext = context;
+        if (ReportManager.getExtent(context) == null) {
+            if (ReportManager.getBaseReportFolderPath() == null) {
+                ReportManager.createReportFolder();
+            }
+            ReportManager.createInstance(context);
+            ownReport = true;
+        }
+    }
+
+    /**
+     * Runs one scenario in its own browser and Extent test node.
+     *
+     * @param pickle  The scenario
+     * @param feature The feature containing the scenario
+     */
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarios")
+    public void runScenario(PickleWrapper pickle, FeatureWrapper feature) {
+        String browser = ConfigReader.getProperty(ConfigPropertiesKey.BROWSER);
+        ExtentTest node = createNode(pickle, feature, browser);
+        TestManager.setTest(node);
+
+        DriverManager.initDriver(browser).get(ConfigReader.getProperty(ConfigPropertiesKey.BASEURL));
+        try {
+            super.runScenario(pickle, feature);
+        } finally {
+            DriverManager.quitDriver();
+        }
+    }
+
+    /**
+     * Returns all scenarios of the selected features, run in parallel by the worker pool.
+     *
+     * @return One row (scenario, feature) per scenario
+     */
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+
+    /**
+     * Restores the suite's data provider pool size and flushes the report if this runner
+     * created it.
+     */
+    @AfterClass(alwaysRun = true)
+    public void tearDownScenarios() {
+        if (suiteDataProviderThreadCount > 0) {
+            testContext.getSuite().getXmlSuite().setDataProviderThreadCount(suiteDataProviderThreadCount);
+            suiteDataProviderThreadCount = 0;
+        }
+        if (ownReport) {
+            ReportManager.close(testContext);
+        }
+    }
+
+    /** Creates the scenario's node, tagged with the browser and categorized by feature and tags. */
+    private ExtentTest createNode(PickleWrapper pickle, FeatureWrapper feature, String browser) {
+        List<String> categories = new ArrayList<>();
+        categories.add(unquote(feature.toString()));
+        categories.addAll(pickle.getPickle().getTags());
+        ExtentTest node = ReportManager.createTest(testContext, pickle.getPickle().getName(), browser,
+                categories.toArray(new String[0]));
+        return node;
+    }
+
+    /** Removes the quotes TestNG display names of Cucumber wrappers are enclosed in. */
+    private static String unquote(String name) {
+        return name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")
+                ? name.substring(1, name.length() - 1) : name;
+    }
+}
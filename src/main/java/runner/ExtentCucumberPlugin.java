@@ -0,0 +1,85 @@
+package runner;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import reports.TestManager;
+
+/**
+ * Cucumber plugin that logs scenarios and steps to the Extent report with their durations.
+ * <p>
+ * Cucumber publishes a scenario's events on the thread running the scenario, so each step
+ * is logged to that thread's {@link TestManager} node, created by {@link CucumberRunner}.
+ * Steps are logged as {@code Given I log in (812 ms)} with the step's status; hooks are only
+ * logged when they fail. Events of threads without a node are ignored.
+ * </p>
+ *
+ * <p>Registered by {@link CucumberRunner}; can also be added to other runners with
+ * {@code plugin = "runner.ExtentCucumberPlugin"}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ExtentCucumberPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+    }
+
+    /** Logs a step, or a failed hook, with its duration. */
+    private void onStepFinished(TestStepFinished event) {
+        ExtentTest node = TestManager.getTest();
+        Result result = event.getResult();
+        if (node == null) {
+            return;
+        }
+        String text;
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            text = step.getStep().getKeyword() + step.getStep().getText();
+        } else if (event.getTestStep() instanceof HookTestStep && result.getError() != null) {
+            text = "Hook " + event.getTestStep().getCodeLocation();
+        } else {
+            return;
+        }
+        node.log(status(result), text + " (" + result.getDuration().toMillis() + " ms)");
+        if (result.getError() != null) {
+            node.log(status(result), result.getError());
+        }
+    }
+
+    /** Logs the scenario's total duration. */
+    private void onScenarioFinished(TestCaseFinished event) {
+        ExtentTest node = TestManager.getTest();
+        if (node != null) {
+            Result result = event.getResult();
+            node.log(status(result), "Scenario " + result.getStatus().name().toLowerCase()
+                    + " in " + result.getDuration().toMillis() + " ms");
+        }
+    }
+
+    /** Maps a Cucumber step status to an Extent status. */
+    private static Status status(Result result) {
+        switch (result.getStatus()) {
+            case PASSED:
+                return Status.PASS;
+            case FAILED:
+                return Status.FAIL;
+            case PENDING:
+            case UNDEFINED:
+            case AMBIGUOUS:
+                return Status.WARNING;
+            default:
+                return Status.SKIP;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import constants.Constants;
+
+/**
+ * Compact binary form of an Excel workbook, generated at build time by {@link TestDataCompiler}.
+ * <p>
+ * A compiled file holds every sheet of one workbook in column-major order, with all
+ * distinct cell values stored once in a string table and cells stored as indexes into it.
+ * At test time the file is memory-mapped and a sheet is decoded straight into a
+ * {@link TestDataTable}, which avoids unzipping and parsing the workbook XML. Each file
+ * records the size and modification time of its source workbook; when they no longer
+ * match, the compiled file is ignored and the workbook is read instead.
+ * </p>
+ *
+ * <p><b>File layout</b> (big-endian):</p>
+ * <pre>
+ * int     magic "TDB2"
+ * long    source length, long source lastModified
+ * int     string count, then per string: int byte length, UTF-8 bytes
+ * int     sheet count, then per sheet, in workbook order:
+ *         int name, int columns, int rows, int[columns] headers, int[columns * rows] cells
+ *         (columns is -1, and nothing follows, for a sheet without a header row)
+ * </pre>
+ *
+ * <p>Used by {@link TestDataCache}; there is normally no need to call this class directly.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class CompiledTestData {
+
+    /** File signature: the ASCII bytes {@code TDB2}. */
+    private static final int MAGIC = 0x54444232;
+
+    /** Column count recorded for a sheet without a header row. */
+    private static final int NO_HEADER = -1;
+
+    /** File extension appended to the workbook name. */
+    public static final String EXTENSION = ".tdb";
+
+    /** Private constructor to prevent instantiation. */
+    private CompiledTestData() {}
+
+    /**
+     * Returns the compiled file for a workbook.
+     *
+     * @param workbook The Excel file
+     * @return The location of its compiled form under {@link Constants#_CompiledTestDataFolderPath}
+     */
+    public static File compiledFileFor(File workbook) {
+        File root = canonical(new File(Constants._TestDataFolderPath));
+        String path = canonical(workbook).getPath();
+        String relative = path.startsWith(root.getPath() + File.separator)
+                ? path.substring(root.getPath().length() + 1)
+                : workbook.getName();
+        return new File(Constants._CompiledTestDataFolderPath, relative + EXTENSION);
+    }
+
+    /**
+     * Returns whether the workbook has a compiled file that matches its current size and
+     * modification time.
+     *
+     * @param workbook The Excel file
+     * @return {@code true} if the compiled file is up to date
+     */
+    public static boolean isUpToDate(File workbook) {
+        File compiled = compiledFileFor(workbook);
+        if (!compiled.isFile()) {
+            return false;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(compiled, "r")) {
+            return file.readInt() == MAGIC
+                    && file.readLong() == workbook.length()
+                    && file.readLong() == workbook.lastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads one sheet from the compiled form of a workbook.
+     *
+     * @param workbook  The Excel file
+     * @param sheetName The name of the sheet, or {@code null} for the first sheet of the workbook
+     * @return The sheet, or {@code null} if there is no up-to-date compiled file or it lacks the sheet
+     */
+    public static TestDataTable load(File workbook, String sheetName) {
+        File compiled = compiledFileFor(workbook);
+        if (!compiled.isFile()) {
+            return null;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(compiled, "r");
+             FileChannel channel = file.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC
+                    || buffer.getLong() != workbook.length()
+                    || buffer.getLong() != workbook.lastModified()) {
+                return null;
+            }
+            String[] strings = new String[buffer.getInt()];
+            long[] sizes = new long[strings.length];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                sizes[i] = 40 + 2L * strings[i].length();
+            }
+            int sheets = buffer.getInt();
+            for (int s = 0; s < sheets; s++) {
+                String name = strings[buffer.getInt()];
+                int columns = buffer.getInt();
+                int rows = buffer.getInt();
+                if (sheetName == null ? s == 0 : name.equals(sheetName)) {
+                    // A sheet without a header row is left to the workbook reader, which reports it
+                    return columns == NO_HEADER ? null : decode(buffer, strings, sizes, columns, rows);
+                }
+                if (columns != NO_HEADER) {
+                    buffer.position(buffer.position() + 4 * columns * (rows + 1));
+                }
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // Unreadable or truncated compiled files are treated as stale
+            return null;
+        }
+    }
+
+    /**
+     * Compiles every sheet of a workbook into its binary form. The file is written to a
+     * temporary file first and moved into place, so readers never see a partial file.
+     *
+     * @param workbook The Excel file
+     * @return The compiled file
+     * @throws IOException if the compiled file cannot be written
+     */
+    public static File compile(File workbook) throws IOException {
+        long length = workbook.length();
+        long lastModified = workbook.lastModified();
+
+        Map<String, Integer> stringIndex = new LinkedHashMap<>();
+        List<int[]> sheets = new ArrayList<>();
+        for (String sheetName : ExcelStreamReader.getSheetNames(workbook.getPath())) {
+            List<String> headers;
+            List<Map<String, String>> rows = new ArrayList<>();
+            try (ExcelStreamReader reader = new ExcelStreamReader(workbook.getPath(), sheetName)) {
+                headers = reader.getHeaders();
+                while (reader.hasNext()) {
+                    rows.add(reader.next());
+                }
+            } catch (RuntimeException e) {
+                // Sheets without a header row hold no test data, but keep their place in the workbook order
+                sheets.add(new int[] {intern(stringIndex, sheetName), NO_HEADER, 0});
+                continue;
+            }
+            int columns = headers.size();
+            int[] sheet = new int[3 + columns + columns * rows.size()];
+            sheet[0] = intern(stringIndex, sheetName);
+            sheet[1] = columns;
+            sheet[2] = rows.size();
+            for (int c = 0; c < columns; c++) {
+                sheet[3 + c] = intern(stringIndex, headers.get(c));
+                for (int r = 0; r < rows.size(); r++) {
+                    String value = rows.get(r).get(headers.get(c));
+                    sheet[3 + columns + c * rows.size() + r] = intern(stringIndex, value == null ? "" : value);
+                }
+            }
+            sheets.add(sheet);
+        }
+
+        File compiled = compiledFileFor(workbook);
+        File folder = compiled.getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Unable to create folder: " + folder);
+        }
+        File temp = File.createTempFile(compiled.getName(), ".tmp", folder);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeLong(length);
+            out.writeLong(lastModified);
+            out.writeInt(stringIndex.size());
+            for (String value : stringIndex.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(sheets.size());
+            for (int[] sheet : sheets) {
+                for (int value : sheet) {
+                    out.writeInt(value);
+                }
+            }
+        }
+        Files.move(temp.toPath(), compiled.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return compiled;
+    }
+
+    /** Decodes the headers and cells of the sheet at the buffer's position. */
+    private static TestDataTable decode(ByteBuffer buffer, String[] strings, long[] sizes, int columns, int rows) {
+        List<String> headers = new ArrayList<>(columns);
+        for (int c = 0; c < columns; c++) {
+            headers.add(strings[buffer.getInt()]);
+        }
+        BitSet used = new BitSet(strings.length);
+        String[][] values = new String[columns][rows];
+        for (int c = 0; c < columns; c++) {
+            for (int r = 0; r < rows; r++) {
+                int index = buffer.getInt();
+                values[c][r] = strings[index];
+                used.set(index);
+            }
+        }
+        long bytes = 16L + 8L * columns * (rows + 2);
+        for (int i = used.nextSetBit(0); i >= 0; i = used.nextSetBit(i + 1)) {
+            bytes += sizes[i];
+        }
+        return TestDataTable.ofColumns(headers, values, rows, bytes);
+    }
+
+    private static File canonical(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    private static int intern(Map<String, Integer> stringIndex, String value) {
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = stringIndex.size();
+            stringIndex.put(value, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,225 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+
+/**
+ * In-JVM parsed copy of a page's DOM for fast read-only assertions.
+ * <p>
+ * A snapshot is parsed once from the serialized DOM (or page source) using jsoup and
+ * indexed by id, class and tag name. Any number of CSS, XPath or {@link By} queries can
+ * then be answered locally without a WebDriver round trip. Snapshots do not follow later
+ * changes to the page; take a new one after the page changes.
+ * </p>
+ *
+ * <p>Queries return the snapshot's own elements, not copies, so they are cheap. Treat them
+ * as read-only: changing them would change what later queries on the same snapshot return.
+ * {@link #getDocument()} returns a copy that may be changed freely.</p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>Index lookups for {@code #id}, {@code .class} and {@code tag} selectors</li>
+ *   <li>Full CSS selector and XPath support for everything else</li>
+ *   <li>Query by Selenium {@link By} locators (id, name, class name, tag name, css, xpath, link text)</li>
+ * </ul>
+ *
+ * <p>Usually accessed through {@link SnapshotUtils}, which manages the current snapshot per thread.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class DomSnapshot {
+
+    /** Simple selectors answered from the indexes. */
+    private static final Pattern SIMPLE_ID = Pattern.compile("#[A-Za-z_][\\w-]*");
+    private static final Pattern SIMPLE_CLASS = Pattern.compile("\\.[A-Za-z_][\\w-]*");
+    private static final Pattern SIMPLE_TAG = Pattern.compile("[A-Za-z][\\w-]*");
+
+    /** The parsed document. */
+    private final Document document;
+
+    /** Elements keyed by id, in document order; ids may be duplicated in real pages. */
+    private final Map<String, List<Element>> byId = new HashMap<>();
+
+    /** Elements keyed by each of their class names, in document order. */
+    private final Map<String, List<Element>> byClass = new HashMap<>();
+
+    /** Elements keyed by lower-case tag name, in document order. */
+    private final Map<String, List<Element>> byTag = new HashMap<>();
+
+    /** Time taken to parse and index the snapshot, in milliseconds. */
+    private final long parseMillis;
+
+    /**
+     * Parses and indexes the given HTML.
+     *
+     * @param html    The serialized DOM or page source
+     * @param baseUrl The URL of the page, used to resolve relative links
+     */
+    public DomSnapshot(String html, String baseUrl) {
+        long start = System.nanoTime();
+        document = Jsoup.parse(html, baseUrl == null ? "" : baseUrl);
+        for (Element element : document.getAllElements()) {
+            String id = element.id();
+            if (!id.isEmpty()) {
+                byId.computeIfAbsent(id, k -> new ArrayList<>()).add(element);
+            }
+            for (String className : element.classNames()) {
+                byClass.computeIfAbsent(className, k -> new ArrayList<>()).add(element);
+            }
+            byTag.computeIfAbsent(element.normalName(), k -> new ArrayList<>()).add(element);
+        }
+        parseMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * Returns the first element with the given id, as {@code document.getElementById} does.
+     *
+     * @param id The id attribute value
+     * @return The element, or {@code null} if none exists
+     */
+    public Element getById(String id) {
+        List<Element> elements = byId.get(id);
+        return elements == null ? null : elements.get(0);
+    }
+
+    /**
+     * Returns every element with the given id, as {@code findElements(By.id(...))} does.
+     *
+     * @param id The id attribute value
+     * @return The elements in document order (never {@code null})
+     */
+    public List<Element> getAllById(String id) {
+        return unmodifiable(byId.get(id));
+    }
+
+    /**
+     * Returns the elements carrying the given class name.
+     *
+     * @param className The class name
+     * @return The elements in document order (never {@code null})
+     */
+    public List<Element> getByClass(String className) {
+        return unmodifiable(byClass.get(className));
+    }
+
+    /**
+     * Returns the elements with the given tag name.
+     *
+     * @param tagName The tag name (case-insensitive)
+     * @return The elements in document order (never {@code null})
+     */
+    public List<Element> getByTag(String tagName) {
+        return unmodifiable(byTag.get(tagName.toLowerCase()));
+    }
+
+    /**
+     * Returns the elements matching a CSS selector, using the indexes for simple
+     * {@code #id}, {@code .class} and {@code tag} selectors.
+     *
+     * @param cssSelector The CSS selector
+     * @return The matching elements in document order
+     */
+    public List<Element> select(String cssSelector) {
+        String css = cssSelector.trim();
+        if (SIMPLE_ID.matcher(css).matches()) {
+            return getAllById(css.substring(1));
+        }
+        if (SIMPLE_CLASS.matcher(css).matches()) {
+            return getByClass(css.substring(1));
+        }
+        if (SIMPLE_TAG.matcher(css).matches()) {
+            return getByTag(css);
+        }
+        return document.select(css);
+    }
+
+    /**
+     * Returns the elements matching an XPath expression.
+     *
+     * @param xpath The XPath expression
+     * @return The matching elements in document order
+     */
+    public List<Element> selectXpath(String xpath) {
+        return document.selectXpath(xpath);
+    }
+
+    /**
+     * Returns the elements matching a Selenium {@link By} locator.
+     *
+     * @param locator The {@link By} locator
+     * @return The matching elements in document order
+     * @throws IllegalArgumentException if the locator strategy is not supported
+     */
+    public List<Element> select(By locator) {
+        List<Object> arguments = ScriptLocator.toArguments(locator);
+        String using = (String) arguments.get(0);
+        String value = (String) arguments.get(1);
+        switch (using) {
+            case "id":
+                return getAllById(value);
+            case "class name":
+                return getByClass(value);
+            case "tag name":
+                return getByTag(value);
+            case "name":
+                return document.getElementsByAttributeValue("name", value);
+            case "css selector":
+                return select(value);
+            case "xpath":
+                return selectXpath(value);
+            case "link text":
+            case "partial link text":
+                List<Element> links = new ArrayList<>();
+                for (Element anchor : getByTag("a")) {
+                    String text = anchor.text().trim();
+                    if ("link text".equals(using) ? text.equals(value) : text.contains(value)) {
+                        links.add(anchor);
+                    }
+                }
+                return links;
+            default:
+                throw new IllegalArgumentException("Unsupported locator strategy for snapshot queries: " + using);
+        }
+    }
+
+    /**
+     * Returns the full text content of the page body.
+     * <p>
+     * Unlike {@link org.openqa.selenium.WebElement#getText()}, the text of a snapshot
+     * ignores CSS: text of hidden elements is included.
+     * </p>
+     */
+    public String getText() {
+        return document.body() == null ? document.text() : document.body().text();
+    }
+
+    /**
+     * Returns a copy of the parsed jsoup {@link Document} for advanced use.
+     * <p>
+     * The copy is made on every call, so changing it does not affect the snapshot or its
+     * indexes. Prefer the query methods for lookups, which need no copy.
+     * </p>
+     */
+    public Document getDocument() {
+        return document.clone();
+    }
+
+    /** Returns the time taken to parse and index this snapshot, in milliseconds. */
+    public long getParseMillis() {
+        return parseMillis;
+    }
+
+    private static List<Element> unmodifiable(List<Element> elements) {
+        return elements == null ? Collections.<Element>emptyList() : Collections.unmodifiableList(elements);
+    }
+}
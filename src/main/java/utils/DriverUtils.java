@@ -1,12 +1,20 @@
 package utils;
 
 import driver.DriverManager;
+import reports.StepTimeline;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Utility class that provides reusable WebDriver actions.
@@ -22,9 +30,12 @@ import java.util.Set;
  *   <li>Advanced Actions: hover, drag-and-drop, JavaScript click/type</li>
  *   <li>Scrolling: scroll to element or by pixel</li>
  *   <li>Alert handling: accept, dismiss, get text, send keys</li>
- *   <li>Window and tab handling: switch by title, switch to parent</li>
+ *   <li>Window and tab handling: switch by title, switch to parent or new window via {@link WindowRegistry}</li>
  *   <li>Checkbox & radio selection/deselection</li>
  *   <li>Handling multiple elements: click first visible</li>
+ *   <li>Bulk reads of text, attributes, visibility and bounding boxes in one script call</li>
+ *   <li>Form fill of inputs, selects, checkboxes and radios in one script call</li>
+ *   <li>Optional reuse of resolved elements via {@link ElementCache}</li>
  * </ul>
  *
  * <p>All methods internally use the {@link DriverManager#getDriver()} instance.</p>
@@ -63,6 +74,44 @@ public class DriverUtils {
         return new Actions(getDriver());
     }
 
+    /**
+     * Resolves the element for the locator and applies the given action to it.
+     * <p>
+     * When the {@link ElementCache} is enabled the element is taken from the cache; if the
+     * cached element has gone stale it is re-resolved and the action retried once. With
+     * {@code traceUtilityCalls} enabled the action is recorded as a {@link StepTimeline} step.
+     * </p>
+     *
+     * @param name    The action name the step is recorded under, for example {@code "click"}
+     * @param locator The {@link By} locator of the element
+     * @param action  The function to apply to the resolved element
+     * @return The value returned by the action
+     */
+    private static <T> T fromElement(String name, By locator, Function<WebElement, T> action) {
+        ElementCache cache = ElementCache.current();
+        try {
+            if (cache == null) {
+                return action.apply(getDriver().findElement(locator));
+            }
+            try {
+                return action.apply(cache.find(getDriver(), locator));
+            } catch (StaleElementReferenceException e) {
+                cache.invalidateStale(locator);
+                return action.apply(cache.find(getDriver(), locator));
+            }
+        } finally {
+            StepTimeline.markUtility("DriverUtils", name, locator);
+        }
+    }
+
+    /** Same as {@link #fromElement(String, By, Function)} for actions without a return value. */
+    private static void withElement(String name, By locator, Consumer<WebElement> action) {
+        fromElement(name, locator, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
     // ---------------------- BASIC ELEMENT ACTIONS ----------------------
 
     public static void click(WebElement element) {
@@ -70,7 +119,7 @@ public class DriverUtils {
     }
 
     public static void click(By locator) {
-        getDriver().findElement(locator).click();
+        withElement("click", locator, WebElement::click);
     }
 
     public static void type(WebElement element, String text) {
@@ -79,9 +128,10 @@ public class DriverUtils {
     }
 
     public static void type(By locator, String text) {
-        WebElement element = getDriver().findElement(locator);
-        element.clear();
-        element.sendKeys(text);
+        withElement("type", locator, element -> {
+            element.clear();
+            element.sendKeys(text);
+        });
     }
 
     public static String getText(WebElement element) {
@@ -89,7 +139,7 @@ public class DriverUtils {
     }
 
     public static String getText(By locator) {
-        return getDriver().findElement(locator).getText();
+        return fromElement("getText", locator, WebElement::getText);
     }
 
     public static String getAttribute(WebElement element, String attribute) {
@@ -97,7 +147,7 @@ public class DriverUtils {
     }
 
     public static String getAttribute(By locator, String attribute) {
-        return getDriver().findElement(locator).getAttribute(attribute);
+        return fromElement("getAttribute", locator, element -> element.getAttribute(attribute));
     }
 
     public static boolean isDisplayed(WebElement element) {
@@ -105,7 +155,7 @@ public class DriverUtils {
     }
 
     public static boolean isDisplayed(By locator) {
-        return getDriver().findElement(locator).isDisplayed();
+        return fromElement("isDisplayed", locator, WebElement::isDisplayed);
     }
 
     // ---------------------- DROPDOWN ACTIONS ----------------------
@@ -115,7 +165,7 @@ public class DriverUtils {
     }
 
     public static void selectByVisibleText(By locator, String text) {
-        new Select(getDriver().findElement(locator)).selectByVisibleText(text);
+        withElement("selectByVisibleText", locator, element -> new Select(element).selectByVisibleText(text));
     }
 
     public static void selectByIndex(WebElement element, int index) {
@@ -123,7 +173,7 @@ public class DriverUtils {
     }
 
     public static void selectByIndex(By locator, int index) {
-        new Select(getDriver().findElement(locator)).selectByIndex(index);
+        withElement("selectByIndex", locator, element -> new Select(element).selectByIndex(index));
     }
 
     public static void selectByValue(WebElement element, String value) {
@@ -131,7 +181,7 @@ public class DriverUtils {
     }
 
     public static void selectByValue(By locator, String value) {
-        new Select(getDriver().findElement(locator)).selectByValue(value);
+        withElement("selectByValue", locator, element -> new Select(element).selectByValue(value));
     }
 
     // ---------------------- ACTIONS & JAVASCRIPT ----------------------
@@ -141,17 +191,59 @@ public class DriverUtils {
     }
 
     public static void hoverOver(By locator) {
-        getActions().moveToElement(getDriver().findElement(locator)).perform();
+        withElement("hoverOver", locator, element -> getActions().moveToElement(element).perform());
     }
 
     public static void dragAndDrop(WebElement source, WebElement target) {
         getActions().dragAndDrop(source, target).perform();
     }
 
+    /**
+     * Drags the element located by {@code sourceLocator} onto the one located by {@code targetLocator}.
+     * <p>
+     * With the {@link ElementCache} enabled, each locator is looked up once; if the drag
+     * fails on a stale element, only the locator whose element went stale is re-resolved
+     * before the single retry.
+     * </p>
+     *
+     * @param sourceLocator The {@link By} locator of the element to drag
+     * @param targetLocator The {@link By} locator of the element to drop on
+     */
     public static void dragAndDrop(By sourceLocator, By targetLocator) {
-        WebElement source = getDriver().findElement(sourceLocator);
-        WebElement target = getDriver().findElement(targetLocator);
-        getActions().dragAndDrop(source, target).perform();
+        ElementCache cache = ElementCache.current();
+        try {
+            if (cache == null) {
+                getActions().dragAndDrop(getDriver().findElement(sourceLocator), getDriver().findElement(targetLocator)).perform();
+                return;
+            }
+            WebElement source = cache.find(getDriver(), sourceLocator);
+            WebElement target = cache.find(getDriver(), targetLocator);
+            try {
+                getActions().dragAndDrop(source, target).perform();
+            } catch (StaleElementReferenceException e) {
+                if (isStale(source)) {
+                    cache.invalidateStale(sourceLocator);
+                    source = cache.find(getDriver(), sourceLocator);
+                }
+                if (isStale(target)) {
+                    cache.invalidateStale(targetLocator);
+                    target = cache.find(getDriver(), targetLocator);
+                }
+                getActions().dragAndDrop(source, target).perform();
+            }
+        } finally {
+            StepTimeline.markUtility("DriverUtils", "dragAndDrop", Arrays.asList(sourceLocator, targetLocator));
+        }
+    }
+
+    /** Returns whether the element is no longer attached to the page. */
+    private static boolean isStale(WebElement element) {
+        try {
+            element.isEnabled();
+            return false;
+        } catch (StaleElementReferenceException e) {
+            return true;
+        }
     }
 
     public static void scrollToElement(WebElement element) {
@@ -160,8 +252,7 @@ public class DriverUtils {
     }
 
     public static void scrollToElement(By locator) {
-        ((JavascriptExecutor) getDriver())
-                .executeScript("arguments[0].scrollIntoView(true);", getDriver().findElement(locator));
+        withElement("scrollToElement", locator, element -> scrollToElement(element));
     }
 
     public static void scrollBy(int x, int y) {
@@ -173,15 +264,215 @@ public class DriverUtils {
     }
 
     public static void jsClick(By locator) {
-        ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", getDriver().findElement(locator));
-    }
-
+        withElement("jsClick", locator, element -> jsClick(element));
+    }
+
+    /**
+     * Sets the value of an input or textarea through JavaScript.
+     * <p>
+     * The text is passed as a script argument (no escaping issues) and the value is set
+     * through the element's own native setter followed by {@code input}, {@code change} and
+     * {@code blur} events, so frameworks such as React and Angular pick up the change.
+     * Elements without a {@code value} setter get a plain {@code value} assignment.
+     * </p>
+     *
+     * @param element The element whose value is set
+     * @param text    The value to set
+     */
     public static void jsType(WebElement element, String text) {
-        ((JavascriptExecutor) getDriver()).executeScript("arguments[0].value='" + text + "';", element);
+        ((JavascriptExecutor) getDriver()).executeScript(
+                SET_VALUE_FUNCTION + "__setValue(arguments[0], arguments[1]);", element, text);
     }
 
     public static void jsType(By locator, String text) {
-        ((JavascriptExecutor) getDriver()).executeScript("arguments[0].value='" + text + "';", getDriver().findElement(locator));
+        withElement("jsType", locator, element -> jsType(element, text));
+    }
+
+    // ---------------------- FORM FILL ----------------------
+
+    /**
+     * JavaScript function {@code __setValue(el, value)} that sets an element's value via the
+     * {@code value} setter of its own prototype chain (bypassing setters frameworks install on
+     * the instance), or by plain assignment when there is none, and fires the events
+     * frameworks listen to.
+     */
+    private static final String SET_VALUE_FUNCTION =
+            "function __setValue(el, value) {"
+          + "  var setter = null;"
+          + "  for (var proto = Object.getPrototypeOf(el); proto; proto = Object.getPrototypeOf(proto)) {"
+          + "    var descriptor = Object.getOwnPropertyDescriptor(proto, 'value');"
+          + "    if (descriptor) { setter = descriptor.set; break; }"
+          + "  }"
+          + "  el.focus();"
+          + "  if (setter) { setter.call(el, value); } else { el.value = value; }"
+          + "  el.dispatchEvent(new Event('input', {bubbles: true}));"
+          + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+          + "  el.blur();"
+          + "}";
+
+    /**
+     * Script applying {@code [using, value, text]} entries in order and returning a status per
+     * field. It stops after the first field that is missing or has to be filled natively, so
+     * the caller can fill that field and resume with the next one.
+     */
+    private static final String FORM_FILL_SCRIPT = ScriptLocator.FIND_FUNCTION + SET_VALUE_FUNCTION
+            + "function __fill(el, value) {"
+            + "  if (!el) { return 'missing'; }"
+            + "  var tag = el.tagName.toLowerCase(), type = (el.getAttribute('type') || '').toLowerCase();"
+            + "  if (tag === 'select') {"
+            + "    var index = -1;"
+            + "    for (var o = 0; o < el.options.length; o++) {"
+            + "      if (el.options[o].text.trim() === value || el.options[o].value === value) { index = o; break; }"
+            + "    }"
+            + "    if (index < 0) { return 'native'; }"
+            + "    el.focus();"
+            + "    el.selectedIndex = index;"
+            + "    el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "    el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "    el.blur();"
+            + "    return 'ok';"
+            + "  }"
+            + "  if (type === 'checkbox' || type === 'radio') {"
+            + "    var checked = /^(true|yes|on|1|checked)$/i.test(value);"
+            + "    if (el.checked !== checked) { el.click(); }"
+            + "    return el.checked === checked ? 'ok' : 'native';"
+            + "  }"
+            + "  if (tag === 'textarea' || (tag === 'input' && type !== 'file')) {"
+            + "    __setValue(el, value);"
+            + "    return el.value === value ? 'ok' : 'native';"
+            + "  }"
+            + "  return 'native';"
+            + "}"
+            + "var fields = arguments[0], status = [];"
+            + "for (var i = 0; i < fields.length; i++) {"
+            + "  status.push(__fill(__find(fields[i][0], fields[i][1])[0], fields[i][2]));"
+            + "  if (status[i] !== 'ok') { break; }"
+            + "}"
+            + "return status;";
+
+    /**
+     * Fills a form in a single script execution.
+     * <p>
+     * See {@link #fillForm(Map, Set)}; no field is forced to native typing.
+     * </p>
+     *
+     * @param fields Ordered map of field locator to value (e.g. a {@link java.util.LinkedHashMap})
+     * @return A {@link FormFillResult} with the timing of the fill
+     */
+    public static FormFillResult fillForm(Map<By, String> fields) {
+        return fillForm(fields, Collections.<By>emptySet());
+    }
+
+    /**
+     * Fills a form in a single script execution, in the iteration order of the map.
+     * <p>
+     * Supported fields and values:
+     * <ul>
+     *   <li>Text inputs and textareas – the value is set and {@code input}, {@code change}
+     *       and {@code blur} events are fired</li>
+     *   <li>Selects – the first option whose visible text or value matches is selected</li>
+     *   <li>Checkboxes and radios – {@code true/yes/on/1/checked} checks, anything else unchecks</li>
+     * </ul>
+     * Fields the script cannot apply (file inputs, content-editable elements, unmatched
+     * options, values rewritten by the page) and the fields listed in {@code nativeFields}
+     * are filled with regular WebDriver interactions in their place in the map order; the
+     * script then resumes with the next field, so dependent fields (e.g. a country select
+     * that populates a region select) are still filled in order.
+     * </p>
+     *
+     * @param fields       Ordered map of field locator to value (e.g. a {@link java.util.LinkedHashMap})
+     * @param nativeFields Fields that must always be typed natively
+     * @return A {@link FormFillResult} with the timing of the fill
+     * @throws NoSuchElementException if a field cannot be located
+     */
+    public static FormFillResult fillForm(Map<By, String> fields, Set<By> nativeFields) {
+        List<Map.Entry<By, String>> entries = new ArrayList<>(fields.entrySet());
+        List<By> typedNatively = new ArrayList<>();
+        long batchedNanos = 0;
+        long nativeNanos = 0;
+
+        int next = 0;
+        while (next < entries.size()) {
+            if (!nativeFields.contains(entries.get(next).getKey())) {
+                List<Object> batch = new ArrayList<>();
+                for (int i = next; i < entries.size() && !nativeFields.contains(entries.get(i).getKey()); i++) {
+                    List<Object> entry = new ArrayList<>(ScriptLocator.toArguments(entries.get(i).getKey()));
+                    entry.add(entries.get(i).getValue());
+                    batch.add(entry);
+                }
+                long start = System.nanoTime();
+                List<?> status = (List<?>) ((JavascriptExecutor) getDriver()).executeScript(FORM_FILL_SCRIPT, batch);
+                batchedNanos += System.nanoTime() - start;
+                for (Object fieldStatus : status) {
+                    if ("missing".equals(fieldStatus)) {
+                        throw new NoSuchElementException("Unable to locate form field: " + entries.get(next).getKey());
+                    }
+                    if ("native".equals(fieldStatus)) {
+                        break;
+                    }
+                    next++;
+                }
+                if (next == entries.size()) {
+                    break;
+                }
+            }
+            Map.Entry<By, String> field = entries.get(next++);
+            long start = System.nanoTime();
+            fillNatively(field.getKey(), field.getValue());
+            nativeNanos += System.nanoTime() - start;
+            typedNatively.add(field.getKey());
+        }
+
+        return new FormFillResult(fields.size(), batchedNanos / 1_000_000, typedNatively, nativeNanos / 1_000_000);
+    }
+
+    /**
+     * Fills a form field by field with regular WebDriver interactions.
+     * <p>
+     * Accepts the same fields and values as {@link #fillForm(Map, Set)} and is useful as a
+     * baseline when comparing against the batched fill.
+     * </p>
+     *
+     * @param fields Ordered map of field locator to value
+     * @return The time taken in milliseconds
+     */
+    public static long fillFormNatively(Map<By, String> fields) {
+        long start = System.nanoTime();
+        for (Map.Entry<By, String> field : fields.entrySet()) {
+            fillNatively(field.getKey(), field.getValue());
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /** Fills a single field natively, choosing the interaction from the element type. */
+    private static void fillNatively(By locator, String value) {
+        withElement("fill", locator, element -> {
+            String type = String.valueOf(element.getAttribute("type")).toLowerCase();
+            if ("select".equalsIgnoreCase(element.getTagName())) {
+                selectByTextOrValue(element, value);
+            } else if ("checkbox".equals(type) || "radio".equals(type)) {
+                if (value.matches("(?i)true|yes|on|1|checked")) selectCheckbox(element);
+                else deselectCheckbox(element);
+            } else {
+                type(element, value);
+            }
+        });
+    }
+
+    /**
+     * Selects the first option whose visible text or value matches, as the batched
+     * {@link #fillForm(Map, Set)} script does.
+     */
+    private static void selectByTextOrValue(WebElement element, String value) {
+        Select select = new Select(element);
+        List<WebElement> options = select.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            if (options.get(i).getText().trim().equals(value) || value.equals(options.get(i).getAttribute("value"))) {
+                select.selectByIndex(i);
+                return;
+            }
+        }
+        throw new NoSuchElementException("Cannot locate option with text or value: " + value);
     }
 
     // ---------------------- ALERTS ----------------------
@@ -204,19 +495,33 @@ public class DriverUtils {
 
     // ---------------------- WINDOW & TAB HANDLING ----------------------
 
+    /**
+     * Switches to the window with the given title using the cached titles of the
+     * {@link WindowRegistry}, visiting other windows only when the cache cannot answer.
+     *
+     * @param windowTitle The window title (case-insensitive)
+     * @throws NoSuchWindowException if no open window has the title
+     */
     public static void switchToWindow(String windowTitle) {
-        Set<String> windows = getDriver().getWindowHandles();
-        for (String win : windows) {
-            getDriver().switchTo().window(win);
-            if (getDriver().getTitle().equalsIgnoreCase(windowTitle)) {
-                break;
-            }
-        }
+        WindowRegistry.current().switchToTitle(windowTitle);
     }
 
+    /** Switches to the window that opened the current one (or the first window of the session). */
     public static void switchToParentWindow() {
-        Set<String> windows = getDriver().getWindowHandles();
-        getDriver().switchTo().window(windows.iterator().next());
+        WindowRegistry.current().switchToParent();
+    }
+
+    /**
+     * Waits for a new window or tab to open and switches to it.
+     *
+     * @return The handle of the new window
+     * @throws IllegalStateException if more than one new window opened at once
+     */
+    public static String switchToNewWindow() {
+        WindowRegistry windows = WindowRegistry.current();
+        String handle = windows.waitForNewWindow();
+        windows.switchTo(handle);
+        return handle;
     }
 
     // ---------------------- CHECKBOX & RADIO ----------------------
@@ -226,8 +531,7 @@ public class DriverUtils {
     }
 
     public static void selectCheckbox(By locator) {
-        WebElement element = getDriver().findElement(locator);
-        if (!element.isSelected()) element.click();
+        withElement("selectCheckbox", locator, element -> selectCheckbox(element));
     }
 
     public static void deselectCheckbox(WebElement element) {
@@ -235,8 +539,160 @@ public class DriverUtils {
     }
 
     public static void deselectCheckbox(By locator) {
-        WebElement element = getDriver().findElement(locator);
-        if (element.isSelected()) element.click();
+        withElement("deselectCheckbox", locator, element -> deselectCheckbox(element));
+    }
+
+    // ---------------------- BULK READS ----------------------
+
+    /** Number of elements read per {@code executeScript} call by the bulk read methods. */
+    private static final int BULK_CHUNK_SIZE = 500;
+
+    /** Maximum number of elements {@link #readAll(By, ElementProperty...)} reads; more is an error. */
+    private static final int BULK_MAX_ROWS = 10000;
+
+    /** Script returning {@code {total, rows}} for a slice of the located (or given) elements. */
+    private static final String BULK_READ_SCRIPT = ScriptLocator.FIND_FUNCTION
+            + "var els = arguments[0] ? __find(arguments[0], arguments[1]) : arguments[2];"
+            + "var offset = arguments[3], end = Math.min(els.length, offset + arguments[4]), props = arguments[5];"
+            + "var rows = [];"
+            + "for (var i = offset; i < end; i++) {"
+            + "  var el = els[i], row = {};"
+            + "  for (var p = 0; p < props.length; p++) {"
+            + "    var kind = props[p][0], name = props[p][1], key = props[p][2];"
+            + "    switch (kind) {"
+            + "      case 'text': row[key] = (el.innerText || el.textContent || '').trim(); break;"
+            + "      case 'displayed': row[key] = __visible(el); break;"
+            + "      case 'rect': var r = el.getBoundingClientRect();"
+            + "        row[key] = {x: r.left, y: r.top, width: r.width, height: r.height}; break;"
+            + "      case 'tagName': row[key] = el.tagName.toLowerCase(); break;"
+            + "      case 'attribute': row[key] = el.getAttribute(name); break;"
+            + "      case 'property': row[key] = el[name] === undefined ? null : el[name]; break;"
+            + "    }"
+            + "  }"
+            + "  rows.push(row);"
+            + "}"
+            + "return {total: els.length, rows: rows};";
+
+    /**
+     * Reads the given properties of every element matching the locator.
+     * <p>
+     * Values are collected inside the browser, one {@code executeScript} call per
+     * {@value #BULK_CHUNK_SIZE} elements. Each map in the result represents one element,
+     * keyed by {@link ElementProperty#getName()}, in document order. To read more than
+     * {@value #BULK_MAX_ROWS} elements, stream them with
+     * {@link #readInChunks(By, int, int, Consumer, ElementProperty...)}.
+     * </p>
+     *
+     * <pre>{@code
+     * List<Map<String, Object>> rows = DriverUtils.readAll(By.cssSelector("#grid tr td:first-child"),
+     *         ElementProperty.TEXT, ElementProperty.attribute("data-id"));
+     * String id = (String) rows.get(0).get("@data-id");
+     * }</pre>
+     *
+     * @param locator    The {@link By} locator of the elements
+     * @param properties The properties to read
+     * @return One map of property values per element
+     * @throws IllegalStateException if more than {@value #BULK_MAX_ROWS} elements match the locator
+     */
+    public static List<Map<String, Object>> readAll(By locator, ElementProperty... properties) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        while (true) {
+            BulkReadResult chunk = executeBulkRead(locator, null, rows.size(), BULK_CHUNK_SIZE, properties);
+            if (chunk.total > BULK_MAX_ROWS) {
+                throw new IllegalStateException(chunk.total + " elements match " + locator + ", more than the "
+                        + BULK_MAX_ROWS + " readAll returns; use readInChunks to stream them");
+            }
+            rows.addAll(chunk.rows);
+            if (chunk.rows.isEmpty() || rows.size() >= chunk.total) {
+                return rows;
+            }
+        }
+    }
+
+    /**
+     * Reads the given properties of each element in the list.
+     * <p>
+     * The elements are sent to the browser in chunks of {@value #BULK_CHUNK_SIZE}, one
+     * {@code executeScript} call per chunk.
+     * </p>
+     *
+     * @param elements   The elements to read
+     * @param properties The properties to read
+     * @return One map of property values per element, in the order of the input list
+     */
+    public static List<Map<String, Object>> readAll(List<WebElement> elements, ElementProperty... properties) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int from = 0; from < elements.size(); from += BULK_CHUNK_SIZE) {
+            List<WebElement> chunk = new ArrayList<>(elements.subList(from, Math.min(elements.size(), from + BULK_CHUNK_SIZE)));
+            rows.addAll(executeBulkRead(null, chunk, 0, chunk.size(), properties).rows);
+        }
+        return rows;
+    }
+
+    /**
+     * Streams the given properties of the elements matching the locator to a consumer,
+     * one chunk at a time, without holding the whole result in memory.
+     * <p>
+     * The elements are re-located for every chunk, so the page should not change while
+     * reading.
+     * </p>
+     *
+     * @param locator    The {@link By} locator of the elements
+     * @param chunkSize  Number of elements read per {@code executeScript} call
+     * @param maxRows    Maximum number of elements to read in total
+     * @param consumer   Receives each chunk of rows
+     * @param properties The properties to read
+     * @return The number of elements read
+     */
+    public static int readInChunks(By locator, int chunkSize, int maxRows,
+                                   Consumer<List<Map<String, Object>>> consumer, ElementProperty... properties) {
+        int offset = 0;
+        while (offset < maxRows) {
+            BulkReadResult chunk = executeBulkRead(locator, null, offset, Math.min(chunkSize, maxRows - offset), properties);
+            if (chunk.rows.isEmpty()) {
+                break;
+            }
+            consumer.accept(chunk.rows);
+            offset += chunk.rows.size();
+            if (offset >= chunk.total) {
+                break;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Runs the bulk read script for one slice of elements.
+     *
+     * @throws IllegalArgumentException if two properties are returned under the same key
+     */
+    @SuppressWarnings("unchecked")
+    private static BulkReadResult executeBulkRead(By locator, List<WebElement> elements, int offset, int limit,
+                                                  ElementProperty... properties) {
+        List<Object> props = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        for (ElementProperty property : properties) {
+            if (!keys.add(property.getName())) {
+                throw new IllegalArgumentException("Two properties are read under the same key: " + property.getName());
+            }
+            props.add(property.toArgument());
+        }
+        List<Object> target = locator == null ? Arrays.asList(null, null) : ScriptLocator.toArguments(locator);
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) getDriver()).executeScript(
+                BULK_READ_SCRIPT, target.get(0), target.get(1), elements, offset, limit, props);
+        return new BulkReadResult(((Number) result.get("total")).intValue(),
+                (List<Map<String, Object>>) result.get("rows"));
+    }
+
+    /** Total number of matched elements and the rows read for one slice. */
+    private static class BulkReadResult {
+        final int total;
+        final List<Map<String, Object>> rows;
+
+        BulkReadResult(int total, List<Map<String, Object>> rows) {
+            this.total = total;
+            this.rows = rows;
+        }
     }
 
     // ---------------------- MULTIPLE ELEMENTS ----------------------
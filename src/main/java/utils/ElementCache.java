@@ -0,0 +1,182 @@
+package utils;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import base.TestContext;
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+
+/**
+ * Opt-in, per-driver cache of resolved {@link WebElement}s keyed by {@link By}.
+ * <p>
+ * When {@code elementCache=true} in {@code config.properties}, {@link driver.DriverManager}
+ * wraps each new driver with an {@link EventFiringDecorator} whose listener is an
+ * {@code ElementCache}. The {@code By} overloads in {@link DriverUtils} then reuse elements
+ * resolved earlier on the same page instead of calling {@code findElement} again.
+ * </p>
+ *
+ * <p><b>Invalidation:</b></p>
+ * <ul>
+ *   <li>Automatically on navigation ({@code get}, {@code navigate().to/back/forward/refresh})</li>
+ *   <li>Automatically on window or frame switches</li>
+ *   <li>Per locator when a cached element throws {@link org.openqa.selenium.StaleElementReferenceException};
+ *       {@link DriverUtils} then re-resolves the element and retries the action once</li>
+ *   <li>Manually via {@link #invalidateAll()} for in-page (SPA) transitions</li>
+ * </ul>
+ *
+ * <p><b>Statistics:</b></p>
+ * Hits, misses and stale retries are tracked per test; every hit is one
+ * {@code findElement} round trip saved. {@link listener.Listener} resets them at test
+ * start and logs them to the report at test end.
+ *
+ * @author
+ * @version 1.0
+ */
+public class ElementCache implements WebDriverListener {
+
+    /** Resolved elements for the current page, keyed by locator. */
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long staleRetries;
+
+    private ElementCache() {}
+
+    /**
+     * Returns whether the element cache is enabled in {@code config.properties}.
+     *
+     * @return {@code true} if {@code elementCache=true}
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean(ConfigPropertiesKey.ELEMENTCACHE);
+    }
+
+    /**
+     * Creates a cache for the current test's driver, kept as driver state of its
+     * {@link TestContext}, and returns the given driver decorated so that navigation and
+     * window/frame switches invalidate it.
+     *
+     * @param driver The newly created {@link WebDriver}
+     * @return The decorated {@link WebDriver}
+     */
+    public static WebDriver attach(WebDriver driver) {
+        ElementCache elementCache = new ElementCache();
+        TestContext.current().setDriverState(ElementCache.class, elementCache);
+        return new EventFiringDecorator<>(elementCache).decorate(driver);
+    }
+
+    /**
+     * Returns the cache bound to the current test's driver, also from threads the test's
+     * {@link TestContext} is propagated to.
+     *
+     * @return The current {@link ElementCache}, or {@code null} if caching is disabled
+     */
+    public static ElementCache current() {
+        TestContext context = TestContext.get();
+        return context == null ? null : context.getDriverState(ElementCache.class);
+    }
+
+    /** Removes the cache bound to the current test's driver. Called when the driver is quit. */
+    public static void unload() {
+        TestContext context = TestContext.get();
+        if (context != null) {
+            context.setDriverState(ElementCache.class, null);
+        }
+    }
+
+    /**
+     * Returns the cached element for the locator, resolving and caching it on a miss.
+     *
+     * @param driver  The driver used to resolve the element on a miss
+     * @param locator The {@link By} locator
+     * @return The resolved {@link WebElement}
+     */
+    public WebElement find(WebDriver driver, By locator) {
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            hits++;
+            return element;
+        }
+        misses++;
+        element = driver.findElement(locator);
+        elements.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Drops a locator whose cached element went stale.
+     *
+     * @param locator The {@link By} locator to invalidate
+     */
+    public void invalidateStale(By locator) {
+        staleRetries++;
+        elements.remove(locator);
+    }
+
+    /** Drops all cached elements, e.g. after an in-page transition the listener cannot observe. */
+    public void invalidateAll() {
+        elements.clear();
+    }
+
+    /** Resets the hit, miss and stale retry counters. Called at the start of each test. */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        staleRetries = 0;
+    }
+
+    /** Returns the number of lookups served from the cache, i.e. round trips saved. */
+    public long getHits() {
+        return hits;
+    }
+
+    /** Returns the number of lookups that required a {@code findElement} call. */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** Returns the number of cached elements that went stale and were re-resolved. */
+    public long getStaleRetries() {
+        return staleRetries;
+    }
+
+    /** Returns the fraction of lookups served from the cache, between 0 and 1. */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Element cache: %d hits / %d lookups (%.0f%% hit rate), %d round trips saved, %d stale retries",
+                hits, hits + misses, getHitRate() * 100, hits, staleRetries);
+    }
+
+    // ---------------------- INVALIDATION EVENTS ----------------------
+
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        invalidateAll();
+    }
+
+    @Override
+    public void beforeAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args) {
+        invalidateAll();
+    }
+
+    @Override
+    public void beforeAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method, Object[] args) {
+        if (!"alert".equals(method.getName()) && !"activeElement".equals(method.getName())) {
+            invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A property of a web element that can be read in bulk by {@link DriverUtils#readAll}.
+ * <p>
+ * Each property is evaluated inside the browser, so reading any number of properties
+ * from any number of elements costs a single {@code executeScript} call per chunk
+ * instead of one remote call per element and property.
+ * </p>
+ *
+ * <p><b>Available Properties:</b></p>
+ * <ul>
+ *   <li>{@link #TEXT} – rendered text ({@code innerText}, trimmed), key {@code "text"}</li>
+ *   <li>{@link #DISPLAYED} – whether the element is visible, key {@code "displayed"}</li>
+ *   <li>{@link #RECT} – bounding box as a map of x, y, width and height, key {@code "rect"}</li>
+ *   <li>{@link #TAG_NAME} – lower-case tag name, key {@code "tagName"}</li>
+ *   <li>{@link #attribute(String)} – an HTML attribute, keyed by the attribute name prefixed with
+ *       {@code @} (e.g. {@code "@href"}), so it cannot collide with the properties above</li>
+ *   <li>{@link #property(String)} – a DOM property (e.g. {@code value}, {@code checked}), keyed by its name</li>
+ * </ul>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ElementProperty {
+
+    /** Rendered text of the element. */
+    public static final ElementProperty TEXT = new ElementProperty("text", "text");
+
+    /** Visibility of the element. */
+    public static final ElementProperty DISPLAYED = new ElementProperty("displayed", "displayed");
+
+    /** Bounding box of the element. */
+    public static final ElementProperty RECT = new ElementProperty("rect", "rect");
+
+    /** Tag name of the element. */
+    public static final ElementProperty TAG_NAME = new ElementProperty("tagName", "tagName");
+
+    /** Property kind understood by the bulk read script. */
+    private final String kind;
+
+    /** Attribute or property name where applicable. */
+    private final String name;
+
+    /** Key under which the value is returned. */
+    private final String key;
+
+    private ElementProperty(String kind, String name, String key) {
+        this.kind = kind;
+        this.name = name;
+        this.key = key;
+    }
+
+    private ElementProperty(String kind, String name) {
+        this(kind, name, name);
+    }
+
+    /**
+     * Reads the given HTML attribute, returned under the attribute name prefixed with {@code @}.
+     *
+     * @param name The attribute name, e.g. {@code "href"}, returned under {@code "@href"}
+     * @return The {@link ElementProperty}
+     */
+    public static ElementProperty attribute(String name) {
+        return new ElementProperty("attribute", name, "@" + name);
+    }
+
+    /**
+     * Reads the given DOM property, returned under the property name.
+     *
+     * @param name The property name, e.g. {@code "value"}
+     * @return The {@link ElementProperty}
+     */
+    public static ElementProperty property(String name) {
+        return new ElementProperty("property", name);
+    }
+
+    /** Returns the key under which this property's value is returned. */
+    public String getName() {
+        return key;
+    }
+
+    /** Returns the {@code [kind, name, key]} triple passed to the bulk read script. */
+    List<String> toArgument() {
+        return Arrays.asList(kind, name, key);
+    }
+
+    @Override
+    public String toString() {
+        return kind.equals(name) ? name : kind + "(" + name + ")";
+    }
+}
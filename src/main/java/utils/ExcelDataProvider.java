@@ -0,0 +1,232 @@
+package utils;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import org.testng.annotations.DataProvider;
+
+import constants.Constants;
+import datasource.DataSource;
+import datasource.DataSources;
+
+/**
+ * TestNG data providers backed by streamed Excel rows.
+ * <p>
+ * The providers return an {@link Iterator} that pulls one row at a time from
+ * {@link ExcelStreamReader} (or, for CSV, JSON and YAML files, from their
+ * {@link DataSources data source}). Rows rejected by the filter expression are skipped as
+ * they are read and never kept, and the workbook is closed once the last row has been
+ * consumed.
+ * </p>
+ *
+ * <p><b>Parallel providers are not lazy:</b> TestNG reads a {@code parallel = true}
+ * iterator to the end before the first invocation, to hand the rows to its data-provider
+ * pool. {@code excelParallel} therefore holds every matching row in memory while the method
+ * runs, the same as a list-based provider; only {@code excel} streams one row per
+ * invocation. Use {@code excel} (or a narrower filter) for sheets too large to hold.</p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>{@code excel} and {@code excelParallel} providers driven by the {@link TestData} annotation</li>
+ *   <li>Each invocation receives one row as a {@code Map<String, String>} (column header → value)</li>
+ *   <li>Row filtering by column and tag expressions, see {@link #filter(String)}</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * &#64;TestData(file = "LoginData.xlsx", sheet = "Sheet1", filter = "Run=Y &amp;&amp; Tags~smoke|regression")
+ * &#64;Test(dataProvider = "excelParallel", dataProviderClass = ExcelDataProvider.class)
+ * public void login(Map&lt;String, String&gt; row) {
+ *     loginPage.login(row.get("Username"), row.get("Password"));
+ * }
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ExcelDataProvider {
+
+    /** Private constructor to prevent instantiation. */
+    private ExcelDataProvider() {}
+
+    /**
+     * Sequential data provider for methods annotated with {@link TestData}. Rows are read
+     * one invocation at a time.
+     *
+     * @param method The test method being invoked
+     * @return A lazy iterator of single-element parameter arrays holding the row map
+     */
+    @DataProvider(name = "excel")
+    public static Iterator<Object[]> excel(Method method) {
+        return fromAnnotation(method);
+    }
+
+    /**
+     * Parallel data provider for methods annotated with {@link TestData}. The thread pool
+     * size is controlled by {@code data-provider-thread-count} in the suite XML.
+     * <p>
+     * TestNG consumes the whole iterator before the first invocation, so all matching rows
+     * are held in memory; see the class documentation.
+     * </p>
+     *
+     * @param method The test method being invoked
+     * @return An iterator of single-element parameter arrays holding the row map
+     */
+    @DataProvider(name = "excelParallel", parallel = true)
+    public static Iterator<Object[]> excelParallel(Method method) {
+        return fromAnnotation(method);
+    }
+
+    /**
+     * Returns a lazy iterator over the rows of a sheet that match the filter.
+     *
+     * @param filePath  The path to the data file, absolute or relative to the test data folder
+     * @param sheetName The name of the sheet or section, or {@code null} for the default
+     * @param filter    The filter expression, or {@code null}/empty for all rows
+     * @return A lazy, thread-safe iterator of single-element parameter arrays holding the row map
+     */
+    public static Iterator<Object[]> rows(String filePath, String sheetName, String filter) {
+        return new RowIterator(DataSources.open(resolve(filePath), sheetName), filter(filter));
+    }
+
+    /**
+     * Parses a row filter expression.
+     * <p>
+     * An expression is a list of conditions joined by {@code &&}; a row is kept when all
+     * conditions hold. Comparisons ignore case and surrounding whitespace, and {@code |}
+     * separates alternative values.
+     * </p>
+     * <ul>
+     *   <li>{@code Column=value} – the cell equals one of the values</li>
+     *   <li>{@code Column!=value} – the cell equals none of the values</li>
+     *   <li>{@code Column~tag} – the cell, split on commas, semicolons or whitespace, contains one of the tags</li>
+     * </ul>
+     *
+     * @param expression The filter expression, or {@code null}/empty to keep all rows
+     * @return The row predicate
+     * @throws IllegalArgumentException if a condition has no operator
+     */
+    public static Predicate<Map<String, String>> filter(String expression) {
+        Predicate<Map<String, String>> predicate = row -> true;
+        if (expression == null || expression.trim().isEmpty()) {
+            return predicate;
+        }
+        for (String condition : expression.split("&&")) {
+            predicate = predicate.and(condition(condition.trim()));
+        }
+        return predicate;
+    }
+
+    // ---------------------- INTERNALS ----------------------
+
+    /** Builds the iterator described by the {@link TestData} annotation of the method. */
+    private static Iterator<Object[]> fromAnnotation(Method method) {
+        TestData data = method.getAnnotation(TestData.class);
+        if (data == null) {
+            throw new IllegalArgumentException("Test method " + method.getName() + " has no @TestData annotation");
+        }
+        return rows(data.file(), data.sheet().isEmpty() ? null : data.sheet(), data.filter());
+    }
+
+    /** Resolves a relative file name against the test data folder. */
+    private static String resolve(String filePath) {
+        File file = new File(filePath);
+        return file.isAbsolute() || file.exists() ? filePath : Constants._TestDataFolderPath + File.separator + filePath;
+    }
+
+    /** Parses one {@code Column op value} condition. */
+    private static Predicate<Map<String, String>> condition(String condition) {
+        int not = condition.indexOf("!=");
+        int eq = condition.indexOf('=');
+        int tag = condition.indexOf('~');
+        int at = -1;
+        for (int position : new int[] {not, eq, tag}) {
+            if (position >= 0 && (at < 0 || position < at)) {
+                at = position;
+            }
+        }
+        if (at <= 0) {
+            throw new IllegalArgumentException("Invalid filter condition (expected Column=value, Column!=value or Column~tag): " + condition);
+        }
+        final String column = condition.substring(0, at).trim();
+        final List<String> values = new ArrayList<>();
+        for (String value : condition.substring(at + (at == not ? 2 : 1)).split("\\|")) {
+            values.add(value.trim().toLowerCase(Locale.ROOT));
+        }
+        if (at == tag) {
+            return row -> {
+                for (String token : valueOf(row, column).split("[,;\\s]+")) {
+                    if (values.contains(token)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        final boolean negate = at == not;
+        return row -> values.contains(valueOf(row, column)) != negate;
+    }
+
+    private static String valueOf(Map<String, String> row, String column) {
+        String value = row.get(column);
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Synchronized iterator that reads ahead to the next matching row and closes the reader at the end. */
+    private static class RowIterator implements Iterator<Object[]> {
+
+        private final DataSource reader;
+        private final Predicate<Map<String, String>> filter;
+        private Map<String, String> next;
+        private boolean closed;
+
+        RowIterator(DataSource reader, Predicate<Map<String, String>> filter) {
+            this.reader = reader;
+            this.filter = filter;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            try {
+                while (next == null && !closed) {
+                    if (!reader.hasNext()) {
+                        close();
+                    } else {
+                        Map<String, String> row = reader.next();
+                        if (filter.test(row)) {
+                            next = row;
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            return next != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in sheet");
+            }
+            Object[] parameters = {next};
+            next = null;
+            return parameters;
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                reader.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import datasource.DataSource;
+
+/**
+ * Streaming, constant-memory reader for large Excel (.xlsx) sheets.
+ * <p>
+ * Unlike {@link ExcelUtils}, which builds the whole workbook in memory, this reader uses
+ * POI's event model ({@link XSSFReader} plus the read-only shared strings table) and pulls
+ * the sheet XML one row at a time. Only the current row is held in memory, so sheets with
+ * tens of thousands of rows can be read quickly and with a small, constant heap footprint.
+ * </p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>Rows exposed as an {@link Iterator} or a {@link Stream} of header → value maps</li>
+ *   <li>Registered as the Excel {@link DataSource} of the {@link datasource.DataSources} SPI</li>
+ *   <li>Values formatted like {@link DataFormatter} (numbers, dates, booleans, shared and inline strings)</li>
+ *   <li>Formula cells return their cached result</li>
+ *   <li>Empty rows are skipped, missing cells are returned as empty strings</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * try (ExcelStreamReader reader = new ExcelStreamReader("testdata/Orders.xlsx", "Sheet1")) {
+ *     while (reader.hasNext()) {
+ *         Map&lt;String, String&gt; row = reader.next();
+ *     }
+ * }
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ExcelStreamReader implements DataSource {
+
+    /** The opened Excel package. */
+    private final OPCPackage pkg;
+
+    /** Shared strings referenced by {@code t="s"} cells. */
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    /** Cell styles used to format numeric values. */
+    private final StylesTable styles;
+
+    /** The sheet XML stream and its pull parser. */
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+
+    private final DataFormatter formatter = new DataFormatter();
+
+    /** Column headers from the first row, indexed by column. */
+    private final List<String> headers;
+
+    /** The next row to return, or {@code null} when the sheet is exhausted. */
+    private Map<String, String> nextRow;
+
+    /** Whether the parser has reached the end of the sheet data. */
+    private boolean finished;
+
+    /**
+     * Opens the sheet and reads its header row.
+     *
+     * @param filePath  The absolute or relative path to the Excel file
+     * @param sheetName The name of the sheet to read
+     * @throws RuntimeException if the file or sheet cannot be opened, or the header row is missing
+     */
+    public ExcelStreamReader(String filePath, String sheetName) {
+        OPCPackage openedPackage = null;
+        InputStream openedStream = null;
+        XMLStreamReader openedXml = null;
+        try {
+            openedPackage = OPCPackage.open(filePath, PackageAccess.READ);
+            pkg = openedPackage;
+            XSSFReader reader = new XSSFReader(pkg);
+            sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            styles = reader.getStylesTable();
+            openedStream = openSheet(reader, sheetName);
+            sheetStream = openedStream;
+            if (sheetStream == null) {
+                throw new RuntimeException("Sheet '" + sheetName + "' not found in " + filePath);
+            }
+            openedXml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+            xml = openedXml;
+
+            List<String> firstRow = readRow();
+            if (firstRow == null || rowNumber != 1) {
+                throw new RuntimeException("No header row found in sheet: " + sheetName);
+            }
+            headers = Collections.unmodifiableList(firstRow);
+            nextRow = readDataRow();
+        } catch (Exception e) {
+            release(openedPackage, openedStream, openedXml);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new RuntimeException("Unable to load Excel file: " + e.getMessage(), e);
+        }
+    }
+
+    /** Releases whatever the constructor opened before it failed. */
+    private static void release(OPCPackage openedPackage, InputStream openedStream, XMLStreamReader openedXml) {
+        try {
+            if (openedXml != null) openedXml.close();
+            if (openedStream != null) openedStream.close();
+        } catch (XMLStreamException | IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (openedPackage != null) openedPackage.revert();
+        }
+    }
+
+    /**
+     * Returns the names of the sheets of a workbook in workbook order, without parsing
+     * any sheet data.
+     *
+     * @param filePath The absolute or relative path to the Excel file
+     * @return The sheet names
+     * @throws RuntimeException if the file cannot be opened
+     */
+    public static List<String> getSheetNames(String filePath) {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(filePath, PackageAccess.READ);
+            List<String> names = new ArrayList<>();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+            return names;
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to load Excel file: " + e.getMessage(), e);
+        } finally {
+            if (pkg != null) pkg.revert();
+        }
+    }
+
+    /** Returns the column headers from the first row. */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextRow != null;
+    }
+
+    /**
+     * Returns the next data row as a map of column header to formatted cell value.
+     *
+     * @return The next row
+     * @throws NoSuchElementException if there are no more rows
+     */
+    @Override
+    public Map<String, String> next() {
+        if (nextRow == null) {
+            throw new NoSuchElementException("No more rows in sheet");
+        }
+        Map<String, String> row = nextRow;
+        nextRow = readDataRow();
+        return row;
+    }
+
+    /**
+     * Returns the remaining rows as a sequential {@link Stream}. Closing the stream
+     * closes this reader.
+     *
+     * @return A stream of rows
+     */
+    public Stream<Map<String, String>> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /** Closes the sheet stream and the Excel package without saving. */
+    @Override
+    public void close() {
+        try {
+            if (xml != null) xml.close();
+            if (sheetStream != null) sheetStream.close();
+        } catch (XMLStreamException | IOException e) {
+            e.printStackTrace();
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    // ---------------------- SHEET PARSING ----------------------
+
+    /** 1-based number of the row last returned by {@link #readRow()}. */
+    private int rowNumber;
+
+    /** Reads the next non-empty data row and maps it to the headers. */
+    private Map<String, String> readDataRow() {
+        List<String> values;
+        do {
+            values = readRow();
+            if (values == null) {
+                return null;
+            }
+        } while (isEmpty(values));
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            row.put(headers.get(i), i < values.size() ? values.get(i) : "");
+        }
+        return row;
+    }
+
+    /** Returns whether every cell value of a row is empty or whitespace. */
+    private static boolean isEmpty(List<String> values) {
+        for (String value : values) {
+            if (value != null && !value.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Advances to the next {@code <row>} element and returns its cell values indexed by
+     * column, or {@code null} at the end of the sheet data.
+     */
+    private List<String> readRow() {
+        if (finished) {
+            return null;
+        }
+        try {
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    String r = xml.getAttributeValue(null, "r");
+                    rowNumber = r == null ? rowNumber + 1 : Integer.parseInt(r);
+                    return readCells();
+                }
+                if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+                    break;
+                }
+            }
+            finished = true;
+            return null;
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Unable to read Excel sheet: " + e.getMessage(), e);
+        }
+    }
+
+    /** Reads the {@code <c>} elements of the current row. */
+    private List<String> readCells() throws XMLStreamException {
+        List<String> values = new ArrayList<>();
+        int column = 0;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return values;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String ref = xml.getAttributeValue(null, "r");
+                column = ref == null ? column : columnIndex(ref);
+                String type = xml.getAttributeValue(null, "t");
+                String style = xml.getAttributeValue(null, "s");
+                String value = formatCell(type, style, readCellContent());
+                while (values.size() < column) {
+                    values.add("");
+                }
+                values.add(value);
+                column++;
+            }
+        }
+        return values;
+    }
+
+    /** Returns the raw text of the {@code <v>} element, or of the {@code <t>} elements of an inline string. */
+    private String readCellContent() throws XMLStreamException {
+        StringBuilder content = null;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT
+                    && ("v".equals(xml.getLocalName()) || "t".equals(xml.getLocalName()))) {
+                if (content == null) content = new StringBuilder();
+                content.append(xml.getElementText());
+            } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+        }
+        return content == null ? null : content.toString();
+    }
+
+    /** Formats a raw cell value according to its type and style, like {@link DataFormatter}. */
+    private String formatCell(String type, String style, String raw) {
+        if (raw == null) {
+            return "";
+        }
+        if (type == null || "n".equals(type)) {
+            int formatIndex = 0;
+            String formatString = null;
+            if (style != null) {
+                XSSFCellStyle cellStyle = styles.getStyleAt(Integer.parseInt(style));
+                formatIndex = cellStyle.getDataFormat();
+                formatString = cellStyle.getDataFormatString();
+            }
+            if (formatString == null) {
+                formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+            }
+            return formatter.formatRawCellContents(Double.parseDouble(raw), formatIndex, formatString);
+        }
+        switch (type) {
+            case "s":
+                return sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+            case "b":
+                return "1".equals(raw) ? "TRUE" : "FALSE";
+            default:
+                // inlineStr, str (formula string result), e (error) and d (ISO date) are returned as-is
+                return raw;
+        }
+    }
+
+    /** Converts the column letters of a cell reference (e.g. {@code "AB12"}) to a 0-based index. */
+    private static int columnIndex(String ref) {
+        int index = 0;
+        for (int i = 0; i < ref.length() && Character.isLetter(ref.charAt(i)); i++) {
+            index = index * 26 + (ref.charAt(i) - 'A' + 1);
+        }
+        return index - 1;
+    }
+
+    /** Returns the XML stream of the named sheet, closing the streams of all other sheets. */
+    private static InputStream openSheet(XSSFReader reader, String sheetName) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream stream = sheets.next();
+            if (sheets.getSheetName().equals(sheetName)) {
+                return stream;
+            }
+            stream.close();
+        }
+        return null;
+    }
+}
@@ -5,7 +5,11 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Utility class for handling Excel file operations using Apache POI.
@@ -19,16 +23,25 @@ import java.util.*;
  * <ul>
  *   <li>Reads Excel files (.xlsx format) dynamically</li>
  *   <li>Supports fetching data as a list of key-value pairs (column header → cell value)</li>
- *   <li>Allows direct cell lookup by row number and column header</li>
+ *   <li>Allows direct cell lookup by row number and column header, using a header index built once</li>
+ *   <li>Typed accessors for int, decimal, date and boolean columns; each cell is parsed once and cached</li>
+ *   <li>Optional hash indexes on key columns for constant-time row lookup by business key</li>
  *   <li>Automatically handles null and empty rows</li>
  *   <li>Graceful resource cleanup via {@link #closeWorkbook()}</li>
  * </ul>
  *
+ * <p>For large sheets, use {@link ExcelStreamReader}, which reads rows one at a time
+ * with constant memory instead of loading the whole workbook.</p>
+ *
  * <p><b>Example Usage:</b></p>
  * <pre>
  * ExcelUtils excel = new ExcelUtils("testdata/LoginData.xlsx", "Sheet1");
  * List&lt;Map&lt;String, String&gt;&gt; data = excel.getDataAsListOfMaps();
  * String username = data.get(0).get("Username");
+ *
+ * excel.createIndex("TestCaseId");
+ * Map&lt;String, String&gt; testCase = excel.getRowByKey("TestCaseId", "TC_1042");
+ * Integer quantity = excel.getInt(excel.getRowNumByKey("TestCaseId", "TC_1042"), "Quantity");
  * excel.closeWorkbook();
  * </pre>
  *
@@ -43,6 +56,23 @@ public class ExcelUtils {
     /** The specific Sheet instance within the Excel workbook. */
     private Sheet sheet;
 
+    /** Formatter shared by all reads of this sheet. */
+    private final DataFormatter formatter = new DataFormatter();
+
+    /** Column headers from the first row, indexed by column. Built on first use. */
+    private List<String> headers;
+
+    /** Column position of each header, keyed by lower-cased header (the first column wins). */
+    private Map<String, Integer> headerIndex;
+
+    /** Hash indexes of key column values to row numbers, keyed by lower-cased column header. */
+    private final Map<String, Map<String, Integer>> keyIndexes = new HashMap<>();
+
+    /** Parsed values of the typed accessors, keyed by row and column (see {@link #cellKey(int, int)}). */
+    private final Map<Long, Optional<BigDecimal>> decimals = new HashMap<>();
+    private final Map<Long, Optional<LocalDate>> dates = new HashMap<>();
+    private final Map<Long, Optional<Boolean>> booleans = new HashMap<>();
+
     /**
      * Constructs an {@code ExcelUtils} instance and loads the specified Excel sheet.
      *
@@ -77,29 +107,41 @@ public class ExcelUtils {
      */
     public List<Map<String, String>> getDataAsListOfMaps() {
         List<Map<String, String>> allData = new ArrayList<>();
-        DataFormatter formatter = new DataFormatter();
-
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            throw new RuntimeException("No header row found in sheet: " + sheet.getSheetName());
-        }
-
+        List<String> headers = getHeaders();
         int totalRows = sheet.getLastRowNum();
-        int totalCols = headerRow.getLastCellNum();
 
         for (int i = 1; i <= totalRows; i++) {
             Row row = sheet.getRow(i);
             if (row == null) continue;
+            allData.add(toMap(row, headers));
+        }
+        return allData;
+    }
 
-            Map<String, String> rowData = new LinkedHashMap<>();
-            for (int j = 0; j < totalCols; j++) {
-                String key = formatter.formatCellValue(headerRow.getCell(j));
-                String value = formatter.formatCellValue(row.getCell(j));
-                rowData.put(key, value);
+    /**
+     * Returns the column headers from the first row. The header row is read once and
+     * indexed for all subsequent lookups.
+     *
+     * @return The column headers in sheet order
+     * @throws RuntimeException if the header row is missing
+     */
+    public List<String> getHeaders() {
+        if (headers == null) {
+            Row headerRow = sheet.getRow(0);
+            if (headerRow == null) {
+                throw new RuntimeException("No header row found in sheet: " + sheet.getSheetName());
             }
-            allData.add(rowData);
+            List<String> names = new ArrayList<>();
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
+                String header = formatter.formatCellValue(headerRow.getCell(i));
+                names.add(header);
+                index.putIfAbsent(header.toLowerCase(Locale.ROOT), i);
+            }
+            headers = Collections.unmodifiableList(names);
+            headerIndex = index;
         }
-        return allData;
+        return headers;
     }
 
     /**
@@ -110,18 +152,208 @@ public class ExcelUtils {
      * @return The cell value as a string, or {@code null} if not found
      */
     public String getCellData(int rowNum, String columnName) {
-        Row headerRow = sheet.getRow(0);
-        DataFormatter formatter = new DataFormatter();
-        int totalCols = headerRow.getLastCellNum();
-
-        for (int i = 0; i < totalCols; i++) {
-            String header = formatter.formatCellValue(headerRow.getCell(i));
-            if (header.equalsIgnoreCase(columnName)) {
-                Row row = sheet.getRow(rowNum);
-                return formatter.formatCellValue(row.getCell(i));
+        Cell cell = getCell(rowNum, columnName);
+        if (cell == null) {
+            return columnIndex(columnName) < 0 ? null : "";
+        }
+        return formatter.formatCellValue(cell);
+    }
+
+    /**
+     * Returns a cell as an integer.
+     *
+     * @param rowNum     The row number (starting from 1 for first data row)
+     * @param columnName The header name of the desired column
+     * @return The value, or {@code null} if the cell or column is missing or blank
+     * @throws NumberFormatException if the cell does not hold a whole number
+     */
+    public Integer getInt(int rowNum, String columnName) {
+        BigDecimal value = getDecimal(rowNum, columnName);
+        try {
+            return value == null ? null : value.intValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Cell '" + columnName + "' in row " + rowNum + " is not a whole number: "
+                    + value.toPlainString());
+        }
+    }
+
+    /**
+     * Returns a cell as a decimal number.
+     *
+     * @param rowNum     The row number (starting from 1 for first data row)
+     * @param columnName The header name of the desired column
+     * @return The value, or {@code null} if the cell or column is missing or blank
+     * @throws NumberFormatException if the cell does not hold a number
+     */
+    public BigDecimal getDecimal(int rowNum, String columnName) {
+        return parseCell(decimals, rowNum, columnName, cell -> {
+            if (resultType(cell) == CellType.NUMERIC) {
+                return BigDecimal.valueOf(cell.getNumericCellValue());
+            }
+            String text = formatter.formatCellValue(cell).trim();
+            try {
+                return new BigDecimal(text.replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new NumberFormatException("Cell '" + columnName + "' in row " + rowNum + " is not a number: " + text);
             }
+        });
+    }
+
+    /**
+     * Returns a cell as a date. Date-formatted numeric cells are converted directly;
+     * text cells must use the ISO format {@code yyyy-MM-dd}.
+     *
+     * @param rowNum     The row number (starting from 1 for first data row)
+     * @param columnName The header name of the desired column
+     * @return The value, or {@code null} if the cell or column is missing or blank
+     * @throws IllegalArgumentException if the cell does not hold a date
+     */
+    public LocalDate getDate(int rowNum, String columnName) {
+        return parseCell(dates, rowNum, columnName, cell -> {
+            if (resultType(cell) == CellType.NUMERIC) {
+                return cell.getLocalDateTimeCellValue().toLocalDate();
+            }
+            String text = formatter.formatCellValue(cell).trim();
+            try {
+                return LocalDate.parse(text);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Cell '" + columnName + "' in row " + rowNum + " is not a date: " + text, e);
+            }
+        });
+    }
+
+    /**
+     * Returns a cell as a boolean. Boolean cells are converted directly; text cells
+     * accept {@code true/false}, {@code yes/no}, {@code y/n} and {@code 1/0} (case-insensitive).
+     *
+     * @param rowNum     The row number (starting from 1 for first data row)
+     * @param columnName The header name of the desired column
+     * @return The value, or {@code null} if the cell or column is missing or blank
+     * @throws IllegalArgumentException if the cell does not hold a boolean
+     */
+    public Boolean getBoolean(int rowNum, String columnName) {
+        return parseCell(booleans, rowNum, columnName, cell -> {
+            if (resultType(cell) == CellType.BOOLEAN) {
+                return cell.getBooleanCellValue();
+            }
+            String text = formatter.formatCellValue(cell).trim().toLowerCase(Locale.ROOT);
+            switch (text) {
+                case "true": case "yes": case "y": case "1":
+                    return Boolean.TRUE;
+                case "false": case "no": case "n": case "0":
+                    return Boolean.FALSE;
+                default:
+                    throw new IllegalArgumentException("Cell '" + columnName + "' in row " + rowNum + " is not a boolean: " + text);
+            }
+        });
+    }
+
+    /**
+     * Builds a hash index on a key column so rows can be looked up by value in constant
+     * time. If a value occurs more than once, the first row wins. Rebuilding an existing
+     * index re-reads the column.
+     *
+     * @param keyColumn The header name of the key column
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public void createIndex(String keyColumn) {
+        int column = columnIndex(keyColumn);
+        if (column < 0) {
+            throw new IllegalArgumentException("Column '" + keyColumn + "' not found in sheet: " + sheet.getSheetName());
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            if (row != null) {
+                index.putIfAbsent(formatter.formatCellValue(row.getCell(column)), i);
+            }
+        }
+        keyIndexes.put(keyColumn.toLowerCase(Locale.ROOT), index);
+    }
+
+    /**
+     * Returns the row number of the row whose key column holds the given value. The
+     * column is indexed on first use if {@link #createIndex(String)} was not called.
+     *
+     * @param keyColumn The header name of the key column
+     * @param key       The value to look up
+     * @return The row number (starting from 1 for first data row), or {@code -1} if not found
+     */
+    public int getRowNumByKey(String keyColumn, String key) {
+        Map<String, Integer> index = keyIndexes.get(keyColumn.toLowerCase(Locale.ROOT));
+        if (index == null) {
+            createIndex(keyColumn);
+            index = keyIndexes.get(keyColumn.toLowerCase(Locale.ROOT));
+        }
+        Integer rowNum = index.get(key);
+        return rowNum == null ? -1 : rowNum;
+    }
+
+    /**
+     * Returns the row whose key column holds the given value, as a map of column
+     * header to cell value.
+     *
+     * @param keyColumn The header name of the key column
+     * @param key       The value to look up
+     * @return The row, or {@code null} if not found
+     */
+    public Map<String, String> getRowByKey(String keyColumn, String key) {
+        int rowNum = getRowNumByKey(keyColumn, key);
+        return rowNum < 0 ? null : toMap(sheet.getRow(rowNum), getHeaders());
+    }
+
+    /** Returns the 0-based position of the column (case-insensitive), or {@code -1} if absent. */
+    private int columnIndex(String columnName) {
+        getHeaders();
+        Integer index = headerIndex.get(columnName.toLowerCase(Locale.ROOT));
+        return index == null ? -1 : index;
+    }
+
+    /** Returns the cell at the row and column, or {@code null} if the row, column or cell is missing. */
+    private Cell getCell(int rowNum, String columnName) {
+        int column = columnIndex(columnName);
+        Row row = column < 0 ? null : sheet.getRow(rowNum);
+        return row == null ? null : row.getCell(column);
+    }
+
+    /**
+     * Returns the parsed value of a cell, parsing it on first access only. Blank and missing
+     * cells are cached as {@code null}; a cell that fails to parse is not cached.
+     */
+    private <T> T parseCell(Map<Long, Optional<T>> cache, int rowNum, String columnName, Function<Cell, T> parser) {
+        int column = columnIndex(columnName);
+        if (column < 0) {
+            return null;
         }
-        return null;
+        Optional<T> value = cache.get(cellKey(rowNum, column));
+        if (value == null) {
+            Row row = sheet.getRow(rowNum);
+            Cell cell = row == null ? null : row.getCell(column);
+            value = Optional.ofNullable(isBlank(cell) ? null : parser.apply(cell));
+            cache.put(cellKey(rowNum, column), value);
+        }
+        return value.orElse(null);
+    }
+
+    private static long cellKey(int rowNum, int column) {
+        return ((long) rowNum << 32) | column;
+    }
+
+    /** Maps the cells of a row to the column headers. */
+    private Map<String, String> toMap(Row row, List<String> headers) {
+        Map<String, String> rowData = new LinkedHashMap<>();
+        for (int j = 0; j < headers.size(); j++) {
+            rowData.put(headers.get(j), formatter.formatCellValue(row.getCell(j)));
+        }
+        return rowData;
+    }
+
+    private static CellType resultType(Cell cell) {
+        return cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+    }
+
+    private boolean isBlank(Cell cell) {
+        return cell == null || resultType(cell) == CellType.BLANK || formatter.formatCellValue(cell).trim().isEmpty();
     }
 
     /**
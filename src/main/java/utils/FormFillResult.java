@@ -0,0 +1,79 @@
+package utils;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/**
+ * Timing summary of a batched form fill performed by {@link DriverUtils#fillForm}.
+ * <p>
+ * Separates the time spent in the single batched script call from the time spent
+ * typing fallback fields natively, so the saving over field-by-field typing can be
+ * judged. When at least one field was typed natively, the measured per-field native
+ * cost is used to estimate what typing every field would have taken.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class FormFillResult {
+
+    private final int fieldCount;
+    private final long batchedMillis;
+    private final List<By> nativeFields;
+    private final long nativeMillis;
+
+    FormFillResult(int fieldCount, long batchedMillis, List<By> nativeFields, long nativeMillis) {
+        this.fieldCount = fieldCount;
+        this.batchedMillis = batchedMillis;
+        this.nativeFields = Collections.unmodifiableList(nativeFields);
+        this.nativeMillis = nativeMillis;
+    }
+
+    /** Returns the total number of fields filled. */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /** Returns the time spent in the batched script call, in milliseconds. */
+    public long getBatchedMillis() {
+        return batchedMillis;
+    }
+
+    /** Returns the fields that were typed natively instead of by the batched script. */
+    public List<By> getNativeFields() {
+        return nativeFields;
+    }
+
+    /** Returns the time spent typing the native fallback fields, in milliseconds. */
+    public long getNativeMillis() {
+        return nativeMillis;
+    }
+
+    /** Returns the total time of the fill, in milliseconds. */
+    public long getTotalMillis() {
+        return batchedMillis + nativeMillis;
+    }
+
+    /**
+     * Returns the estimated time typing every field natively would have taken, based on
+     * the measured cost of the native fallback fields, or {@code -1} if no field was typed natively.
+     *
+     * @return The estimated field-by-field duration in milliseconds, or {@code -1}
+     */
+    public long getEstimatedFieldByFieldMillis() {
+        return nativeFields.isEmpty() ? -1 : nativeMillis * fieldCount / nativeFields.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Filled ").append(fieldCount).append(" fields in ")
+                .append(getTotalMillis()).append(" ms (batched: ").append(batchedMillis).append(" ms");
+        if (!nativeFields.isEmpty()) {
+            sb.append(", ").append(nativeFields.size()).append(" typed natively: ").append(nativeMillis)
+                    .append(" ms; estimated field-by-field: ").append(getEstimatedFieldByFieldMillis()).append(" ms");
+        }
+        return sb.append(")").toString();
+    }
+}
@@ -0,0 +1,99 @@
+package utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Client-side performance metrics of one page, collected by {@link PerformanceUtils}.
+ * <p>
+ * Timings are in milliseconds since the start of the navigation, the layout shift score is
+ * unitless and the heap size is in megabytes. Metrics the browser does not support (for
+ * example the JS heap outside Chromium, or paint timings in Safari), and the DOMContentLoaded
+ * and load timings before those events have finished, are absent.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * PerformanceMetrics metrics = PerformanceUtils.measure("login");
+ * Double lcp = metrics.get(PerformanceMetrics.LARGEST_CONTENTFUL_PAINT);
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class PerformanceMetrics {
+
+    /** Time to first byte (ms). */
+    public static final String TTFB = "ttfb";
+
+    /** End of the DOMContentLoaded event (ms). */
+    public static final String DOM_CONTENT_LOADED = "domContentLoaded";
+
+    /** End of the load event (ms). */
+    public static final String LOAD = "load";
+
+    /** First paint (ms). */
+    public static final String FIRST_PAINT = "firstPaint";
+
+    /** First contentful paint (ms). */
+    public static final String FIRST_CONTENTFUL_PAINT = "firstContentfulPaint";
+
+    /** Largest contentful paint (ms). */
+    public static final String LARGEST_CONTENTFUL_PAINT = "largestContentfulPaint";
+
+    /** Cumulative layout shift score: the score of the largest session window of shifts. */
+    public static final String CUMULATIVE_LAYOUT_SHIFT = "cumulativeLayoutShift";
+
+    /** Used JavaScript heap (MB). */
+    public static final String JS_HEAP_USED_MB = "jsHeapUsedMB";
+
+    /** All metric names, in report and history column order. */
+    public static final String[] NAMES = {TTFB, DOM_CONTENT_LOADED, LOAD, FIRST_PAINT, FIRST_CONTENTFUL_PAINT,
+            LARGEST_CONTENTFUL_PAINT, CUMULATIVE_LAYOUT_SHIFT, JS_HEAP_USED_MB};
+
+    /** Name of the measured page. */
+    private final String page;
+
+    /** URL of the measured page. */
+    private final String url;
+
+    /** Metric name → value, for the metrics the browser reported. */
+    private final Map<String, Double> values;
+
+    PerformanceMetrics(String page, String url, Map<String, Double> values) {
+        this.page = page;
+        this.url = url;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    /** Returns the page name the metrics were collected for. */
+    public String getPage() {
+        return page;
+    }
+
+    /** Returns the URL of the measured page. */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the value of a metric.
+     *
+     * @param name One of the metric name constants
+     * @return The value, or {@code null} if the browser did not report it
+     */
+    public Double get(String name) {
+        return values.get(name);
+    }
+
+    /** Returns all reported metrics in {@link #NAMES} order. */
+    public Map<String, Double> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "PerformanceMetrics[" + page + " " + values + "]";
+    }
+}
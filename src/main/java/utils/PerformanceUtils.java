@@ -0,0 +1,298 @@
+package utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import constants.Constants;
+import driver.DriverManager;
+import reports.TestManager;
+
+/**
+ * Utility class for measuring client-side page performance and checking it against budgets.
+ * <p>
+ * Metrics are read from the browser's Navigation Timing, Paint Timing, Largest Contentful
+ * Paint and Layout Shift entries in one asynchronous script, plus the JS heap size from the
+ * Chrome DevTools Protocol when the driver supports it (or {@code performance.memory}
+ * otherwise). Every measurement is attached to the current Extent test node as a table and
+ * appended to {@code Reports/History/performance-history.csv}, so trends can be charted across
+ * runs.
+ * </p>
+ *
+ * <p><b>Budgets</b> are read from {@code config/performance-budgets.properties} as
+ * {@code <page>.<metric>=<maximum>}, with {@code default.<metric>} applying to every page.
+ * When {@code enforcePerformanceBudgets=false}, exceeded budgets are only logged as warnings.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * // In a page object, after the page has loaded
+ * PerformanceUtils.assertBudget("login");
+ *
+ * // Record only
+ * PerformanceMetrics metrics = PerformanceUtils.measure("dashboard");
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class PerformanceUtils {
+
+    /**
+     * Collects all metrics in one round trip. LCP and layout shifts are only exposed to
+     * buffered performance observers, whose callbacks run asynchronously. Layout shifts are
+     * grouped into session windows, each ending after a 1 s gap between shifts or 5 s after its
+     * first shift, and the CLS is the score of the largest window. DOMContentLoaded and load
+     * are left out until their events have finished.
+     */
+    private static final String COLLECT_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+          + "var result = {};"
+          + "var nav = performance.getEntriesByType('navigation')[0];"
+          + "if (nav) {"
+          + "  result.ttfb = nav.responseStart;"
+          + "  if (nav.domContentLoadedEventEnd > 0) result.domContentLoaded = nav.domContentLoadedEventEnd;"
+          + "  if (nav.loadEventEnd > 0) result.load = nav.loadEventEnd;"
+          + "} else if (performance.timing) {"
+          + "  var t = performance.timing, start = t.navigationStart;"
+          + "  result.ttfb = t.responseStart - start;"
+          + "  if (t.domContentLoadedEventEnd > 0) result.domContentLoaded = t.domContentLoadedEventEnd - start;"
+          + "  if (t.loadEventEnd > 0) result.load = t.loadEventEnd - start;"
+          + "}"
+          + "performance.getEntriesByType('paint').forEach(function(p) {"
+          + "  if (p.name === 'first-paint') result.firstPaint = p.startTime;"
+          + "  if (p.name === 'first-contentful-paint') result.firstContentfulPaint = p.startTime;"
+          + "});"
+          + "if (performance.memory) result.jsHeapUsedMB = performance.memory.usedJSHeapSize / 1048576;"
+          + "var types = window.PerformanceObserver && PerformanceObserver.supportedEntryTypes || [];"
+          + "if (types.indexOf('largest-contentful-paint') >= 0) {"
+          + "  new PerformanceObserver(function(list) {"
+          + "    var entries = list.getEntries(); result.largestContentfulPaint = entries[entries.length - 1].startTime;"
+          + "  }).observe({type: 'largest-contentful-paint', buffered: true});"
+          + "}"
+          + "if (types.indexOf('layout-shift') >= 0) {"
+          + "  result.cumulativeLayoutShift = 0;"
+          + "  var first, last, windowValue = 0;"
+          + "  new PerformanceObserver(function(list) {"
+          + "    list.getEntries().forEach(function(e) {"
+          + "      if (e.hadRecentInput) return;"
+          + "      if (last && e.startTime - last.startTime < 1000 && e.startTime - first.startTime < 5000) {"
+          + "        windowValue += e.value;"
+          + "      } else {"
+          + "        first = e; windowValue = e.value;"
+          + "      }"
+          + "      last = e;"
+          + "      result.cumulativeLayoutShift = Math.max(result.cumulativeLayoutShift, windowValue);"
+          + "    });"
+          + "  }).observe({type: 'layout-shift', buffered: true});"
+          + "}"
+          + "setTimeout(function() { done(result); }, 50);";
+
+    /** Budgets loaded from the budgets file on first use. */
+    private static Properties budgets;
+
+    /** Private constructor to prevent instantiation. */
+    private PerformanceUtils() {}
+
+    /**
+     * Collects the current page's metrics, attaches them to the current test node and appends
+     * them to the performance history.
+     *
+     * @param page Name of the page, used for budgets, the report and the history
+     * @return The collected {@link PerformanceMetrics}
+     */
+    public static PerformanceMetrics measure(String page) {
+        PerformanceMetrics metrics = collect(page);
+        attach(metrics, Collections.<String>emptyList());
+        appendToHistory(metrics);
+        return metrics;
+    }
+
+    /**
+     * Collects the current page's metrics and checks them against the page's budgets.
+     * <p>
+     * The metrics are attached to the current test node, with exceeded budgets highlighted,
+     * and appended to the performance history. Metrics the browser does not report are not
+     * checked.
+     * </p>
+     *
+     * @param page Name of the page, used for budgets, the report and the history
+     * @return The collected {@link PerformanceMetrics}
+     * @throws AssertionError if a budget is exceeded and {@code enforcePerformanceBudgets} is true
+     */
+    public static PerformanceMetrics assertBudget(String page) {
+        PerformanceMetrics metrics = collect(page);
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> metric : metrics.getValues().entrySet()) {
+            Double budget = getBudget(page, metric.getKey());
+            if (budget != null && metric.getValue() > budget) {
+                violations.add(metric.getKey() + " " + format(metric.getValue()) + " > " + format(budget));
+            }
+        }
+        attach(metrics, violations);
+        appendToHistory(metrics);
+
+        if (!violations.isEmpty()) {
+            String message = "Performance budget exceeded on '" + page + "': " + String.join(", ", violations);
+            if (ConfigReader.getBoolean(ConfigPropertiesKey.PERFORMANCEBUDGETS)) {
+                throw new AssertionError(message);
+            }
+            if (TestManager.getTest() != null) {
+                TestManager.getTest().log(Status.WARNING, message);
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the budget of a metric for a page.
+     *
+     * @param page   The page name
+     * @param metric The metric name
+     * @return The page's budget, else the default budget, else {@code null}
+     */
+    public static synchronized Double getBudget(String page, String metric) {
+        if (budgets == null) {
+            budgets = loadBudgets();
+        }
+        String value = budgets.getProperty(page + "." + metric, budgets.getProperty("default." + metric));
+        try {
+            return value == null ? null : Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid performance budget '" + value + "' for " + page + "." + metric
+                    + " in " + Constants._PerformanceBudgetsFilePath, e);
+        }
+    }
+
+    /** Collects the metrics of the current page of the current thread's driver. */
+    private static PerformanceMetrics collect(String page) {
+        WebDriver driver = DriverManager.getDriver();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver is running on this thread. Call DriverManager.initDriver() first.");
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT);
+        Map<?, ?> reported = result instanceof Map ? (Map<?, ?>) result : Collections.emptyMap();
+
+        Double cdpHeap = cdpHeapUsedMB(driver);
+        for (String name : PerformanceMetrics.NAMES) {
+            Object value = PerformanceMetrics.JS_HEAP_USED_MB.equals(name) && cdpHeap != null ? cdpHeap : reported.get(name);
+            if (value instanceof Number) {
+                values.put(name, ((Number) value).doubleValue());
+            }
+        }
+        return new PerformanceMetrics(page, driver.getCurrentUrl(), values);
+    }
+
+    /** Returns the used JS heap in MB from the DevTools {@code Performance} domain, or {@code null}. */
+    private static Double cdpHeapUsedMB(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return null;
+        }
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Performance.enable", Collections.<String, Object>emptyMap());
+            Object metrics = cdp.executeCdpCommand("Performance.getMetrics", Collections.<String, Object>emptyMap()).get("metrics");
+            if (metrics instanceof List) {
+                for (Object metric : (List<?>) metrics) {
+                    Map<?, ?> entry = (Map<?, ?>) metric;
+                    if ("JSHeapUsedSize".equals(entry.get("name"))) {
+                        return ((Number) entry.get("value")).doubleValue() / (1024 * 1024);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // Remote or restricted sessions may reject CDP commands; fall back to performance.memory
+        }
+        return null;
+    }
+
+    /** Attaches the metrics to the current test node as a table of value and budget per metric. */
+    private static void attach(PerformanceMetrics metrics, List<String> violations) {
+        ExtentTest test = TestManager.getTest();
+        if (test == null) {
+            return;
+        }
+        String[][] table = new String[metrics.getValues().size() + 1][];
+        table[0] = new String[] {"Metric", "Value", "Budget"};
+        int row = 1;
+        for (Map.Entry<String, Double> metric : metrics.getValues().entrySet()) {
+            Double budget = getBudget(metrics.getPage(), metric.getKey());
+            table[row++] = new String[] {metric.getKey(), format(metric.getValue()), budget == null ? "-" : format(budget)};
+        }
+        test.log(violations.isEmpty() ? Status.INFO : Status.WARNING,
+                "Performance of '" + metrics.getPage() + "' (" + metrics.getUrl() + ")");
+        test.log(violations.isEmpty() ? Status.INFO : Status.WARNING, MarkupHelper.createTable(table));
+    }
+
+    /** Appends the metrics as one CSV line to the performance history, writing the header to a new file. */
+    private static synchronized void appendToHistory(PerformanceMetrics metrics) {
+        File file = new File(Constants._PerformanceHistoryFilePath);
+        file.getParentFile().mkdirs();
+        boolean newFile = !file.exists();
+        try (PrintWriter out = new PrintWriter(new FileWriter(file, true))) {
+            if (newFile) {
+                out.println("timestamp,test,page,browser,url," + String.join(",", PerformanceMetrics.NAMES));
+            }
+            ExtentTest test = TestManager.getTest();
+            StringBuilder line = new StringBuilder()
+                    .append(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date())).append(',')
+                    .append(csv(test == null ? "" : test.getModel().getName())).append(',')
+                    .append(csv(metrics.getPage())).append(',')
+                    .append(csv(ConfigReader.getProperty(ConfigPropertiesKey.BROWSER))).append(',')
+                    .append(csv(metrics.getUrl()));
+            for (String name : PerformanceMetrics.NAMES) {
+                Double value = metrics.get(name);
+                line.append(',').append(value == null ? "" : format(value));
+            }
+            out.println(line);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static Properties loadBudgets() {
+        Properties properties = new Properties();
+        File file = new File(Constants._PerformanceBudgetsFilePath);
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read performance budgets: " + e.getMessage(), e);
+            }
+        }
+        return properties;
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
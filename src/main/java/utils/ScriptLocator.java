@@ -0,0 +1,87 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/**
+ * Internal helper that translates Selenium {@link By} locators into arguments
+ * understood by an in-browser element finder.
+ * <p>
+ * Utilities that batch several element operations into a single
+ * {@code executeScript} call (multi-condition waits, bulk reads, form fills)
+ * cannot pass a {@link By} to the browser directly. This class exposes the
+ * locator strategy and value of any remotable {@link By} so the script can
+ * resolve the elements itself using {@link #FIND_FUNCTION}.
+ * </p>
+ *
+ * <p><b>Supported strategies:</b></p>
+ * <ul>
+ *   <li>id, name, class name, tag name</li>
+ *   <li>css selector, xpath</li>
+ *   <li>link text, partial link text</li>
+ * </ul>
+ *
+ * @author
+ * @version 1.0
+ */
+final class ScriptLocator {
+
+    /**
+     * JavaScript function declaration {@code __find(using, value, root)} that returns
+     * an array of elements matching the given strategy and value under {@code root}
+     * (or {@code document} when omitted).
+     */
+    static final String FIND_FUNCTION =
+            "function __find(using, value, root) {"
+          + "  root = root || document;"
+          + "  var list = [];"
+          + "  switch (using) {"
+          + "    case 'id': list = root.querySelectorAll('#' + CSS.escape(value)); break;"
+          + "    case 'name': list = root.querySelectorAll('[name=\"' + value.replace(/([\"\\\\])/g, '\\\\$1') + '\"]'); break;"
+          + "    case 'class name': list = root.querySelectorAll('.' + CSS.escape(value)); break;"
+          + "    case 'tag name': list = root.getElementsByTagName(value); break;"
+          + "    case 'css selector': list = root.querySelectorAll(value); break;"
+          + "    case 'xpath':"
+          + "      var snap = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+          + "      for (var i = 0; i < snap.snapshotLength; i++) { list.push(snap.snapshotItem(i)); }"
+          + "      break;"
+          + "    case 'link text':"
+          + "    case 'partial link text':"
+          + "      var anchors = root.querySelectorAll('a');"
+          + "      for (var j = 0; j < anchors.length; j++) {"
+          + "        var t = (anchors[j].innerText || anchors[j].textContent || '').trim();"
+          + "        if (using === 'link text' ? t === value : t.indexOf(value) >= 0) { list.push(anchors[j]); }"
+          + "      }"
+          + "      break;"
+          + "    default: throw new Error('Unsupported locator strategy: ' + using);"
+          + "  }"
+          + "  return Array.prototype.slice.call(list);"
+          + "}"
+          + "function __visible(el) {"
+          + "  if (!el) return false;"
+          + "  var style = window.getComputedStyle(el);"
+          + "  if (style.visibility === 'hidden' || style.display === 'none' || style.opacity === '0') return false;"
+          + "  return el.getClientRects().length > 0;"
+          + "}";
+
+    /** Private constructor to prevent instantiation. */
+    private ScriptLocator() {}
+
+    /**
+     * Returns the locator strategy and value of the given {@link By} as a two-element list
+     * ({@code [using, value]}) suitable for passing as {@code executeScript} arguments.
+     *
+     * @param locator The {@link By} locator to translate
+     * @return A list containing the strategy name followed by the locator value
+     * @throws IllegalArgumentException if the locator cannot be evaluated inside the browser
+     */
+    static List<Object> toArguments(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the browser: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return Arrays.<Object>asList(parameters.using(), String.valueOf(parameters.value()));
+    }
+}
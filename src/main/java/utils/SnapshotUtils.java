@@ -0,0 +1,171 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import base.TestContext;
+import driver.DriverManager;
+
+/**
+ * Companion to {@link DriverUtils} for read-only assertions against a local {@link DomSnapshot}.
+ * <p>
+ * Instead of issuing a {@code findElement}/{@code getText} round trip per check, a test
+ * captures the current DOM once with {@link #takeSnapshot()}, runs any number of queries
+ * against the in-JVM copy and releases it with {@link #releaseSnapshot()}. Snapshots are
+ * kept per thread, so parallel tests do not interfere with each other.
+ * </p>
+ *
+ * <p><b>Lifecycle:</b></p>
+ * <ul>
+ *   <li>{@link #takeSnapshot()} – serializes the live DOM and makes it the current snapshot</li>
+ *   <li>Query methods – answered locally from the current snapshot</li>
+ *   <li>{@link #releaseSnapshot()} – discards the snapshot; take a new one after the page changes</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * SnapshotUtils.takeSnapshot();
+ * Assert.assertEquals(SnapshotUtils.count(By.cssSelector("#orders tbody tr")), 37);
+ * Assert.assertTrue(SnapshotUtils.getTexts(By.cssSelector("#orders td.status")).contains("Shipped"));
+ * SnapshotUtils.releaseSnapshot();
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class SnapshotUtils {
+
+    /**
+     * Script serializing a copy of the DOM in which the live state of form controls (typed
+     * values, checked boxes, selected options) is written back to the markup, since
+     * {@code outerHTML} only carries the values the page was loaded with.
+     */
+    private static final String SNAPSHOT_SCRIPT =
+            "var root = document.documentElement, copy = root.cloneNode(true);"
+          + "var live = root.querySelectorAll('input, textarea, select'), copies = copy.querySelectorAll('input, textarea, select');"
+          + "for (var i = 0; i < live.length && i < copies.length; i++) {"
+          + "  var el = live[i], target = copies[i], tag = el.tagName.toLowerCase();"
+          + "  if (tag === 'textarea') { target.textContent = el.value; }"
+          + "  else if (tag === 'select') {"
+          + "    for (var o = 0; o < el.options.length && o < target.options.length; o++) {"
+          + "      if (el.options[o].selected) { target.options[o].setAttribute('selected', ''); }"
+          + "      else { target.options[o].removeAttribute('selected'); }"
+          + "    }"
+          + "  } else if (el.type === 'checkbox' || el.type === 'radio') {"
+          + "    if (el.checked) { target.setAttribute('checked', ''); } else { target.removeAttribute('checked'); }"
+          + "  } else if (el.type !== 'file' && el.type !== 'password') { target.setAttribute('value', el.value); }"
+          + "}"
+          + "return copy.outerHTML;";
+
+    /** Private constructor to prevent instantiation. */
+    private SnapshotUtils() {}
+
+    /**
+     * Serializes the current DOM of the active driver, parses it and makes it the
+     * current snapshot of the test. The snapshot is kept in the test's {@link TestContext},
+     * so it is released when the test ends.
+     * <p>
+     * The live state of form controls is captured: the {@code value} attribute of inputs, the
+     * text of textareas and the {@code checked}/{@code selected} attributes reflect what is
+     * currently entered, not the page's original markup. Password and file inputs keep their
+     * markup value.
+     * </p>
+     *
+     * @return The new {@link DomSnapshot}
+     */
+    public static DomSnapshot takeSnapshot() {
+        WebDriver driver = DriverManager.getDriver();
+        String html = (String) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+        DomSnapshot dom = new DomSnapshot(html, driver.getCurrentUrl());
+        TestContext.current().setMetrics(DomSnapshot.class, dom);
+        return dom;
+    }
+
+    /**
+     * Returns the current snapshot of the test.
+     *
+     * @return The current {@link DomSnapshot}
+     * @throws IllegalStateException if no snapshot has been taken
+     */
+    public static DomSnapshot getSnapshot() {
+        TestContext context = TestContext.get();
+        DomSnapshot dom = context == null ? null : context.getMetrics(DomSnapshot.class);
+        if (dom == null) {
+            throw new IllegalStateException("No DOM snapshot taken. Call SnapshotUtils.takeSnapshot() first.");
+        }
+        return dom;
+    }
+
+    /** Discards the current snapshot of the test. */
+    public static void releaseSnapshot() {
+        TestContext context = TestContext.get();
+        if (context != null) {
+            context.setMetrics(DomSnapshot.class, null);
+        }
+    }
+
+    /** Returns the number of elements matching the locator in the snapshot. */
+    public static int count(By locator) {
+        return getSnapshot().select(locator).size();
+    }
+
+    /** Returns whether at least one element matches the locator in the snapshot. */
+    public static boolean isPresent(By locator) {
+        return !getSnapshot().select(locator).isEmpty();
+    }
+
+    /**
+     * Returns the text of the first element matching the locator, or {@code null} if none matches.
+     * <p>
+     * Unlike {@link org.openqa.selenium.WebElement#getText()}, which returns only rendered text,
+     * the snapshot ignores CSS: text of hidden descendants is included, and whitespace is
+     * normalized rather than laid out. Assert on visibility-dependent text with {@link DriverUtils}.
+     * </p>
+     */
+    public static String getText(By locator) {
+        List<Element> elements = getSnapshot().select(locator);
+        return elements.isEmpty() ? null : elements.get(0).text();
+    }
+
+    /** Returns the text of every element matching the locator, in document order; see {@link #getText(By)}. */
+    public static List<String> getTexts(By locator) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : getSnapshot().select(locator)) {
+            texts.add(element.text());
+        }
+        return texts;
+    }
+
+    /**
+     * Returns an attribute of the first element matching the locator, or {@code null} if absent.
+     * <p>
+     * This is the attribute in the snapshot's markup, not a DOM property as
+     * {@link org.openqa.selenium.WebElement#getAttribute(String)} may return. Form state is the
+     * exception: {@code value}, {@code checked} and {@code selected} hold the live state at the
+     * time of {@link #takeSnapshot()}.
+     * </p>
+     */
+    public static String getAttribute(By locator, String attribute) {
+        List<Element> elements = getSnapshot().select(locator);
+        return elements.isEmpty() || !elements.get(0).hasAttr(attribute) ? null : elements.get(0).attr(attribute);
+    }
+
+    /** Returns an attribute of every element matching the locator, in document order; see {@link #getAttribute(By, String)}. */
+    public static List<String> getAttributes(By locator, String attribute) {
+        List<String> values = new ArrayList<>();
+        for (Element element : getSnapshot().select(locator)) {
+            values.add(element.hasAttr(attribute) ? element.attr(attribute) : null);
+        }
+        return values;
+    }
+
+    /** Returns whether the page text of the snapshot contains the given text. */
+    public static boolean containsText(String text) {
+        return getSnapshot().getText().contains(text);
+    }
+}
@@ -0,0 +1,38 @@
+package utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the test data (an Excel sheet or a CSV, JSON or YAML file) that feeds a
+ * data-driven test through {@link ExcelDataProvider}.
+ * <p>
+ * Relative file names are resolved against the test data folder
+ * ({@link constants.Constants#_TestDataFolderPath}).
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * &#64;TestData(file = "LoginData.xlsx", sheet = "Sheet1", filter = "Run=Y &amp;&amp; Tags~smoke")
+ * &#64;Test(dataProvider = "excel", dataProviderClass = ExcelDataProvider.class)
+ * public void login(Map&lt;String, String&gt; row) { ... }
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface TestData {
+
+    /** The data file name or path (.xlsx, .csv, .json, .yaml). */
+    String file();
+
+    /** The sheet or section name (defaults to the first sheet, or the root array of JSON/YAML files). */
+    String sheet() default "";
+
+    /** Optional row filter expression; see {@link ExcelDataProvider#filter(String)}. */
+    String filter() default "";
+}
@@ -0,0 +1,211 @@
+package utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import datasource.DataSources;
+
+/**
+ * Process-wide, thread-safe cache of parsed test data sheets.
+ * <p>
+ * Each sheet is loaded once into an immutable, column-oriented {@link TestDataTable},
+ * from its build-time {@link CompiledTestData compiled form} when that is up to date and
+ * otherwise by parsing the file with its {@link DataSources data source} (Excel, CSV, JSON
+ * or YAML), and is shared by every
+ * test and thread through read-only views. Entries are keyed by canonical file path and
+ * sheet name and are reloaded automatically when the file's modification time changes. When the combined
+ * size of the cached tables exceeds {@code testDataCacheMaxMB}, the least recently used
+ * tables are evicted.
+ * </p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>Each sheet parsed at most once per modification, even under concurrent first access</li>
+ *   <li>Size-bounded with least-recently-used eviction</li>
+ *   <li>Statistics: hit rate, parse time saved and resident size</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * TestDataTable data = TestDataCache.get(Constants._TestDataFolderPath + File.separator + "LoginData.xlsx", "Sheet1");
+ * String username = data.get(0, "Username");
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class TestDataCache {
+
+    /** Maximum combined size of cached tables, read from config.properties (default 256 MB). */
+    private static final long MAX_BYTES = ConfigReader.getLong(ConfigPropertiesKey.TESTDATACACHEMAXMB, 256) * 1024 * 1024;
+
+    /** Cached sheets keyed by canonical path and sheet name. */
+    private static final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /** Logical clock used to order entries by last access. */
+    private static final AtomicLong clock = new AtomicLong();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder parseNanosSaved = new LongAdder();
+
+    /** Private constructor to prevent instantiation. */
+    private TestDataCache() {}
+
+    /**
+     * Returns the parsed contents of the sheet, parsing it on first use or after the
+     * file was modified.
+     *
+     * @param filePath  The absolute or relative path to the data file (.xlsx, .csv, .json, .yaml)
+     * @param sheetName The name of the sheet or section, or {@code null} for the default
+     * @return The shared, immutable {@link TestDataTable}
+     * @throws RuntimeException if the file or sheet cannot be read
+     */
+    public static TestDataTable get(final String filePath, final String sheetName) {
+        final File file = canonical(filePath);
+        final long lastModified = file.lastModified();
+        String key = file.getPath() + "::" + sheetName;
+
+        while (true) {
+            Entry entry = cache.get(key);
+            if (entry != null && entry.lastModified == lastModified) {
+                hits.increment();
+                entry.lastAccess = clock.incrementAndGet();
+                TestDataTable table = entry.table();
+                parseNanosSaved.add(entry.parseNanos);
+                return table;
+            }
+
+            Entry loading = new Entry(lastModified, new FutureTask<>(() -> {
+                TestDataTable compiled = CompiledTestData.load(file, sheetName);
+                if (compiled != null) {
+                    return compiled;
+                }
+                return DataSources.readTable(file.getPath(), sheetName);
+            }));
+            boolean installed = entry == null ? cache.putIfAbsent(key, loading) == null
+                    : cache.replace(key, entry, loading);
+            if (installed) {
+                misses.increment();
+                loading.load();
+                try {
+                    TestDataTable table = loading.table();
+                    evictIfNeeded();
+                    return table;
+                } catch (RuntimeException e) {
+                    cache.remove(key, loading);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /** Removes all cached tables and resets the statistics. */
+    public static void clear() {
+        cache.clear();
+        hits.reset();
+        misses.reset();
+        parseNanosSaved.reset();
+    }
+
+    /** Returns the fraction of lookups served from the cache, between 0 and 1. */
+    public static double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /** Returns the parse time avoided by cache hits, in milliseconds. */
+    public static long getParseMillisSaved() {
+        return parseNanosSaved.sum() / 1_000_000;
+    }
+
+    /** Returns the approximate combined heap size of the cached tables, in bytes. */
+    public static long getResidentBytes() {
+        long bytes = 0;
+        for (Entry entry : cache.values()) {
+            bytes += entry.bytes;
+        }
+        return bytes;
+    }
+
+    /** Returns a one-line summary of the cache statistics. */
+    public static String getStatistics() {
+        return String.format("%d sheets cached, %d hits / %d lookups (%.0f%% hit rate), %d ms parse time saved, %.1f MB resident",
+                cache.size(), hits.sum(), hits.sum() + misses.sum(), getHitRate() * 100,
+                getParseMillisSaved(), getResidentBytes() / (1024.0 * 1024.0));
+    }
+
+    /** Evicts least recently used entries until the cache fits in {@link #MAX_BYTES}. */
+    private static synchronized void evictIfNeeded() {
+        while (getResidentBytes() > MAX_BYTES && cache.size() > 1) {
+            Map.Entry<String, Entry> oldest = null;
+            for (Map.Entry<String, Entry> candidate : cache.entrySet()) {
+                if (candidate.getValue().bytes > 0
+                        && (oldest == null || candidate.getValue().lastAccess < oldest.getValue().lastAccess)) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            cache.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private static File canonical(String filePath) {
+        try {
+            return new File(filePath).getCanonicalFile();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to resolve test data file: " + filePath, e);
+        }
+    }
+
+    /** A cached (or loading) table and its metadata. */
+    private static class Entry {
+        final long lastModified;
+        final FutureTask<TestDataTable> task;
+        volatile long lastAccess = clock.incrementAndGet();
+        volatile long parseNanos;
+        volatile long bytes;
+
+        Entry(long lastModified, FutureTask<TestDataTable> task) {
+            this.lastModified = lastModified;
+            this.task = task;
+        }
+
+        /** Parses the sheet on the calling thread and records its cost. */
+        void load() {
+            long start = System.nanoTime();
+            task.run();
+            parseNanos = System.nanoTime() - start;
+            try {
+                bytes = task.get().getEstimatedBytes();
+            } catch (InterruptedException | ExecutionException e) {
+                // failure surfaces from table()
+            }
+        }
+
+        /** Waits for the table to be parsed and returns it. */
+        TestDataTable table() {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while loading test data", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                        : new RuntimeException("Unable to load test data: " + cause.getMessage(), cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import constants.Constants;
+
+/**
+ * Build step that compiles every Excel workbook under the test data folder into the
+ * binary format read by {@link CompiledTestData}.
+ * <p>
+ * Runs in the {@code process-classes} phase through the {@code exec-maven-plugin}
+ * (skip with {@code -Dtestdata.compile.skip=true}). Workbooks whose compiled file is
+ * already up to date are skipped, and Excel lock files ({@code ~$*.xlsx}) are ignored.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * mvn process-classes
+ * java -cp ... utils.TestDataCompiler [testDataFolder]
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class TestDataCompiler {
+
+    /** Private constructor to prevent instantiation. */
+    private TestDataCompiler() {}
+
+    /**
+     * Compiles the workbooks of the given folder, or of {@link Constants#_TestDataFolderPath}
+     * when no argument is passed.
+     *
+     * @param args Optional test data folder
+     * @throws IOException if a compiled file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        File folder = new File(args.length > 0 ? args[0] : Constants._TestDataFolderPath);
+        List<File> workbooks = new ArrayList<>();
+        collect(folder, workbooks);
+
+        int compiled = 0;
+        for (File workbook : workbooks) {
+            if (!CompiledTestData.isUpToDate(workbook)) {
+                long start = System.nanoTime();
+                File target = CompiledTestData.compile(workbook);
+                System.out.printf("[TestDataCompiler] %s -> %s (%d ms)%n", workbook.getName(), target.getPath(),
+                        (System.nanoTime() - start) / 1_000_000);
+                compiled++;
+            }
+        }
+        System.out.printf("[TestDataCompiler] %d of %d workbook(s) compiled, %d up to date%n",
+                compiled, workbooks.size(), workbooks.size() - compiled);
+    }
+
+    /** Recursively collects the .xlsx files of a folder. */
+    private static void collect(File folder, List<File> workbooks) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                collect(file, workbooks);
+            } else if (file.getName().toLowerCase().endsWith(".xlsx") && !file.getName().startsWith("~$")) {
+                workbooks.add(file);
+            }
+        }
+    }
+}
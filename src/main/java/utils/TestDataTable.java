@@ -0,0 +1,273 @@
+package utils;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, column-oriented table of test data rows.
+ * <p>
+ * Values are stored per column in plain arrays, and identical strings within the table
+ * share a single instance, which keeps repetitive test data (flags, statuses, environment
+ * names) compact. Rows are exposed as read-only {@link Map} views over the columns, so
+ * handing a table to many parallel tests never copies the data.
+ * </p>
+ *
+ * <p>Instances are created by {@link TestDataCache} (from the workbook or its
+ * {@link CompiledTestData compiled form}) and shared across threads.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class TestDataTable implements Iterable<Map<String, String>> {
+
+    /** Column headers in sheet order. */
+    private final List<String> headers;
+
+    /** Column position of each header (the last column wins for duplicate headers). */
+    private final Map<String, Integer> headerIndex = new LinkedHashMap<>();
+
+    /** Cell values, indexed by column then row. */
+    private final String[][] columns;
+
+    /** Number of data rows. */
+    private final int rowCount;
+
+    /** Approximate heap footprint of the table in bytes. */
+    private final long estimatedBytes;
+
+    /** Hash indexes of key column values to row positions, built on first lookup. */
+    private final Map<String, Map<String, Integer>> keyIndexes = new ConcurrentHashMap<>();
+
+    private TestDataTable(List<String> headers, String[][] columns, int rowCount, long estimatedBytes) {
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+        for (int i = 0; i < headers.size(); i++) {
+            headerIndex.put(headers.get(i), i);
+        }
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Builds a table from rows of header → value maps.
+     *
+     * @param headers The column headers
+     * @param rows    The rows to copy into the table
+     * @return The immutable {@link TestDataTable}
+     */
+    public static TestDataTable of(List<String> headers, Iterator<Map<String, String>> rows) {
+        List<String[]> buffer = new ArrayList<>();
+        Map<String, String> strings = new HashMap<>();
+        long bytes = 0;
+        int width = headers.size();
+        while (rows.hasNext()) {
+            Map<String, String> row = rows.next();
+            String[] values = new String[width];
+            for (int c = 0; c < width; c++) {
+                String value = row.get(headers.get(c));
+                value = value == null ? "" : value;
+                String shared = strings.putIfAbsent(value, value);
+                if (shared == null) {
+                    bytes += 40 + 2L * value.length();
+                }
+                values[c] = shared == null ? value : shared;
+            }
+            buffer.add(values);
+        }
+
+        String[][] columns = new String[width][buffer.size()];
+        for (int r = 0; r < buffer.size(); r++) {
+            String[] values = buffer.get(r);
+            for (int c = 0; c < width; c++) {
+                columns[c][r] = values[c];
+            }
+        }
+        bytes += 16L + 8L * width * (buffer.size() + 2);
+        return new TestDataTable(headers, columns, buffer.size(), bytes);
+    }
+
+    /**
+     * Wraps already column-oriented values without copying them. Used by
+     * {@link CompiledTestData}, whose string table already shares identical values.
+     *
+     * @param headers        The column headers
+     * @param columns        The cell values, indexed by column then row
+     * @param rowCount       The number of data rows
+     * @param estimatedBytes The approximate heap footprint of the values
+     * @return The immutable {@link TestDataTable}
+     */
+    static TestDataTable ofColumns(List<String> headers, String[][] columns, int rowCount, long estimatedBytes) {
+        return new TestDataTable(headers, columns, rowCount, estimatedBytes);
+    }
+
+    /** Returns the column headers in sheet order. */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /** Returns the number of data rows. */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns a single cell value.
+     *
+     * @param row    The 0-based data row index
+     * @param column The column header
+     * @return The value, or {@code null} if the column does not exist
+     */
+    public String get(int row, String column) {
+        Integer c = headerIndex.get(column);
+        return c == null ? null : columns[c][checkRow(row)];
+    }
+
+    /**
+     * Returns a read-only view of one row.
+     *
+     * @param row The 0-based data row index
+     * @return A map of column header to value
+     */
+    public Map<String, String> getRow(int row) {
+        return new RowView(checkRow(row));
+    }
+
+    /**
+     * Returns the position of the first row whose key column holds the given value. The
+     * column is indexed on the first lookup, so later lookups take constant time.
+     *
+     * @param keyColumn The column header of the key column
+     * @param key       The value to look up
+     * @return The 0-based data row index, or {@code -1} if not found
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public int indexOf(String keyColumn, String key) {
+        Map<String, Integer> index = keyIndexes.computeIfAbsent(keyColumn, this::buildIndex);
+        Integer row = index.get(key);
+        return row == null ? -1 : row;
+    }
+
+    /**
+     * Returns the first row whose key column holds the given value.
+     *
+     * @param keyColumn The column header of the key column
+     * @param key       The value to look up
+     * @return A read-only view of the row, or {@code null} if not found
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public Map<String, String> getRowByKey(String keyColumn, String key) {
+        int row = indexOf(keyColumn, key);
+        return row < 0 ? null : new RowView(row);
+    }
+
+    /** Returns a read-only list view of all rows. */
+    public List<Map<String, String>> asList() {
+        return new AbstractList<Map<String, String>>() {
+            @Override
+            public Map<String, String> get(int index) {
+                return getRow(index);
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Map<String, String>> iterator() {
+        return asList().iterator();
+    }
+
+    /** Returns the approximate heap footprint of the table in bytes. */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private Map<String, Integer> buildIndex(String keyColumn) {
+        Integer c = headerIndex.get(keyColumn);
+        if (c == null) {
+            throw new IllegalArgumentException("Column '" + keyColumn + "' not found. Available columns: " + headers);
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int r = 0; r < rowCount; r++) {
+            index.putIfAbsent(columns[c][r], r);
+        }
+        return index;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range [0, " + rowCount + ")");
+        }
+        return row;
+    }
+
+    /** Read-only map view over one row of the columns. */
+    private class RowView extends AbstractMap<String, String> {
+
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer c = headerIndex.get(key);
+            return c == null ? null : columns[c][row];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return headerIndex.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return headerIndex.size();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    final Iterator<Map.Entry<String, Integer>> columnIterator = headerIndex.entrySet().iterator();
+                    return new Iterator<Entry<String, String>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return columnIterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!columnIterator.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Map.Entry<String, Integer> column = columnIterator.next();
+                            return new SimpleImmutableEntry<>(column.getKey(), columns[column.getValue()][row]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return headerIndex.size();
+                }
+            };
+        }
+    }
+}
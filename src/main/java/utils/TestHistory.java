@@ -0,0 +1,279 @@
+package utils;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriverException;
+import org.testng.ITestResult;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import constants.Constants;
+
+/**
+ * Persistent per-test outcome history used to order and retry tests.
+ * <p>
+ * Every final test outcome is recorded against the test, identified by {@link #idOf(ITestResult)}:
+ * each data provider row, and so each Cucumber scenario, has a history of its own, so a broken
+ * row does not change how the other rows are retried. A run that passed only after
+ * a retry counts as flaky, and each test keeps a flakiness score: an exponential moving
+ * average of its flaky runs, so recent behaviour weighs most. The history is persisted to
+ * {@link Constants#_TestHistoryFilePath} so it accumulates across runs; it tells
+ * {@link listener.RetryListener} which tests failed last time, and
+ * {@link listener.RetryAnalyzer} how often a failure is worth retrying.
+ * </p>
+ *
+ * <p><b>Retry policy</b> (see {@link #retriesFor(String, Throwable, int)}):</p>
+ * <ul>
+ *   <li>Tests with a flakiness score get up to {@code maxRetries} retries</li>
+ *   <li>Other tests get one retry for WebDriver failures (timeouts, stale or missing
+ *       elements), which are the usual symptom of flakiness, and none for assertion failures</li>
+ *   <li>Tests that failed their last three runs without ever being flaky are not retried</li>
+ * </ul>
+ *
+ * <p>Time spent in attempts that were retried is totalled separately and written, with the
+ * flakiest tests, to {@code Retry_Report.txt}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class TestHistory {
+
+    /** Weight of the latest run in the flakiness score. */
+    private static final double FLAKINESS_WEIGHT = 0.2;
+
+    /** Flakiness scores below this count as not flaky. */
+    private static final double FLAKY_THRESHOLD = 0.01;
+
+    /** Consecutive failed runs after which a never-flaky test is considered broken. */
+    private static final int BROKEN_STREAK = 3;
+
+    /** Number of tests listed in the flakiest tests section of the report. */
+    private static final int REPORT_SIZE = 20;
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /** History keyed by test id, see {@link #idOf(ITestResult)}. */
+    private static final Map<String, TestRecord> history = load();
+
+    /** Qualified names of the test methods with a test that failed in the previous run. */
+    private static final Set<String> methodsFailedLastRun = methodsFailedLastRun(history);
+
+    /** Retries per test in the current run, reset when the test's outcome is recorded. */
+    private static final Map<String, AtomicLong> pendingRetries = new ConcurrentHashMap<>();
+
+    /** Tests that failed in the current run. */
+    private static final Set<String> failedThisRun = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong retries = new AtomicLong();
+    private static final AtomicLong retryMillis = new AtomicLong();
+
+    /** Private constructor to prevent instantiation. */
+    private TestHistory() {}
+
+    /**
+     * Returns the id a test is recorded under: the test method's qualified name, followed by
+     * the parameters for a data provider row, for example
+     * {@code tests.LoginTest.login[jane, secret]}. A Cucumber scenario's parameters are its
+     * scenario and feature names.
+     *
+     * @param result The result of the test
+     * @return The test id
+     */
+    public static String idOf(ITestResult result) {
+        String method = result.getMethod().getQualifiedName();
+        Object[] parameters = result.getParameters();
+        return parameters == null || parameters.length == 0 ? method : method + Arrays.deepToString(parameters);
+    }
+
+    /**
+     * Returns whether the test method, or any of its data provider rows or scenarios, failed
+     * in the previous run.
+     *
+     * @param methodName The test method's qualified name
+     * @return {@code true} if the method had a failure in the previous run
+     */
+    public static boolean failedLastRun(String methodName) {
+        return methodsFailedLastRun.contains(methodName);
+    }
+
+    /**
+     * Returns the test's flakiness score.
+     *
+     * @param testId The test id, see {@link #idOf(ITestResult)}
+     * @return The score, from 0 (never flaky) to 1 (flaky in every recent run)
+     */
+    public static double getFlakiness(String testId) {
+        TestRecord record = history.get(testId);
+        return record == null ? 0 : record.flakiness;
+    }
+
+    /**
+     * Returns how many times a failure of the test should be retried.
+     *
+     * @param testId     The test id, see {@link #idOf(ITestResult)}
+     * @param failure    The failure, or {@code null}
+     * @param maxRetries The configured maximum
+     * @return The number of retries, from 0 to {@code maxRetries}
+     */
+    public static int retriesFor(String testId, Throwable failure, int maxRetries) {
+        TestRecord record = history.get(testId);
+        if (record != null && record.flakiness >= FLAKY_THRESHOLD) {
+            return maxRetries;
+        }
+        if (record != null && record.failStreak >= BROKEN_STREAK) {
+            return 0;
+        }
+        return failure instanceof WebDriverException ? Math.min(1, maxRetries) : 0;
+    }
+
+    /**
+     * Records a failed attempt that is about to be retried.
+     *
+     * @param testId The test id, see {@link #idOf(ITestResult)}
+     * @param millis The duration of the failed attempt
+     */
+    public static void recordRetry(String testId, long millis) {
+        pendingRetries.computeIfAbsent(testId, k -> new AtomicLong()).incrementAndGet();
+        retries.incrementAndGet();
+        retryMillis.addAndGet(millis);
+    }
+
+    /**
+     * Records the final outcome of a test; a pass after a retry counts as a flaky run.
+     *
+     * @param testId The test id, see {@link #idOf(ITestResult)}
+     * @param passed Whether the test passed
+     */
+    public static void record(String testId, boolean passed) {
+        AtomicLong retried = pendingRetries.remove(testId);
+        boolean flaky = passed && retried != null && retried.get() > 0;
+        if (!passed) {
+            failedThisRun.add(testId);
+        }
+        history.computeIfAbsent(testId, k -> new TestRecord()).record(passed, flaky);
+    }
+
+    /** Returns the number of retries in the current run. */
+    public static long getRetries() {
+        return retries.get();
+    }
+
+    /** Returns the time, in milliseconds, spent in attempts that were retried in the current run. */
+    public static long getRetryMillis() {
+        return retryMillis.get();
+    }
+
+    /**
+     * Persists the history to {@link Constants#_TestHistoryFilePath}.
+     * <p>
+     * Typically called once at the end of the suite by {@link listener.Listener}.
+     * </p>
+     */
+    public static synchronized void save() {
+        for (Map.Entry<String, TestRecord> entry : history.entrySet()) {
+            entry.getValue().lastRunFailed = failedThisRun.contains(entry.getKey())
+                    || (entry.getValue().lastRunFailed && !entry.getValue().ranThisRun);
+        }
+        File file = new File(Constants._TestHistoryFilePath);
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            GSON.toJson(history, writer);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a plain-text report of the retries of the current run and the flakiest tests.
+     *
+     * @param folderPath Folder in which {@code Retry_Report.txt} is created
+     */
+    public static void writeReport(String folderPath) {
+        File file = new File(folderPath, "Retry_Report.txt");
+        file.getParentFile().mkdirs();
+        List<Map.Entry<String, TestRecord>> flakiest = new ArrayList<>(history.entrySet());
+        flakiest.removeIf(e -> e.getValue().flakiness < FLAKY_THRESHOLD);
+        flakiest.sort((a, b) -> Double.compare(b.getValue().flakiness, a.getValue().flakiness));
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println(String.format("Retries this run: %d, time spent in retried attempts: %.1f s",
+                    retries.get(), retryMillis.get() / 1000.0));
+            out.println();
+            out.println("Flakiest tests");
+            out.println(String.format("%-70s %8s %8s %8s %10s", "Test", "Runs", "Flaky", "Failed", "Flakiness"));
+            for (Map.Entry<String, TestRecord> entry : flakiest.subList(0, Math.min(REPORT_SIZE, flakiest.size()))) {
+                TestRecord r = entry.getValue();
+                out.println(String.format("%-70s %8d %8d %8d %10.2f", entry.getKey(), r.runs, r.flakyRuns, r.failedRuns, r.flakiness));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static Map<String, TestRecord> load() {
+        Map<String, TestRecord> loaded = new ConcurrentHashMap<>();
+        File file = new File(Constants._TestHistoryFilePath);
+        if (file.exists()) {
+            Type type = new TypeToken<Map<String, TestRecord>>() {}.getType();
+            try (Reader reader = new FileReader(file)) {
+                Map<String, TestRecord> stored = GSON.fromJson(reader, type);
+                if (stored != null) {
+                    loaded.putAll(stored);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return loaded;
+    }
+
+    private static Set<String> methodsFailedLastRun(Map<String, TestRecord> history) {
+        Set<String> methods = ConcurrentHashMap.newKeySet();
+        for (Map.Entry<String, TestRecord> entry : history.entrySet()) {
+            if (entry.getValue().lastRunFailed) {
+                int parameters = entry.getKey().indexOf('[');
+                methods.add(parameters < 0 ? entry.getKey() : entry.getKey().substring(0, parameters));
+            }
+        }
+        return methods;
+    }
+
+    /** Outcome history of a single test or data provider row. */
+    static class TestRecord {
+        long runs;
+        long failedRuns;
+        long flakyRuns;
+        int failStreak;
+        double flakiness;
+        boolean lastRunFailed;
+        transient boolean ranThisRun;
+
+        synchronized void record(boolean passed, boolean flaky) {
+            runs++;
+            ranThisRun = true;
+            if (!passed) {
+                failedRuns++;
+            }
+            if (flaky) {
+                flakyRuns++;
+            }
+            failStreak = passed ? 0 : failStreak + 1;
+            flakiness += FLAKINESS_WEIGHT * ((flaky ? 1 : 0) - flakiness);
+        }
+    }
+}
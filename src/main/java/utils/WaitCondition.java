@@ -0,0 +1,162 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/**
+ * A single condition that can be combined with others and evaluated inside the browser.
+ * <p>
+ * Conditions are compiled by {@link WaitUtils#waitForAll(WaitCondition...)} and
+ * {@link WaitUtils#waitForAny(WaitCondition...)} into one JavaScript snippet, so a whole
+ * set of conditions costs a single {@code executeScript} round trip per poll instead of
+ * one {@code WebDriverWait} per condition.
+ * </p>
+ *
+ * <p><b>Available Conditions:</b></p>
+ * <ul>
+ *   <li>{@link #presenceOf(By)} – at least one element matches the locator</li>
+ *   <li>{@link #visibilityOf(By)} – the first matching element is displayed</li>
+ *   <li>{@link #invisibilityOf(By)} – no matching element is displayed (or none exists)</li>
+ *   <li>{@link #elementToBeClickable(By)} – the first matching element is displayed and enabled</li>
+ *   <li>{@link #textToBePresent(By, String)} – the first matching element contains the text</li>
+ *   <li>{@link #script(String, String)} – any custom boolean JavaScript expression</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * WaitResult result = WaitUtils.waitForAll(
+ *         WaitCondition.invisibilityOf(By.id("spinner")),
+ *         WaitCondition.visibilityOf(By.tagName("h1")),
+ *         WaitCondition.elementToBeClickable(By.id("submit")));
+ * Logger.info("Page ready, last condition: " + result.getLastSatisfied());
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class WaitCondition {
+
+    /** Human readable description used in results and timeout messages. */
+    private final String description;
+
+    /** JavaScript expression template; {@code $0}, {@code $1}... refer to this condition's arguments. */
+    private final String expression;
+
+    /** Arguments passed to {@code executeScript} for this condition. */
+    private final List<Object> arguments;
+
+    private WaitCondition(String description, String expression, List<Object> arguments) {
+        this.description = description;
+        this.expression = expression;
+        this.arguments = Collections.unmodifiableList(arguments);
+    }
+
+    /**
+     * Condition satisfied when at least one element matching the locator is present in the DOM.
+     *
+     * @param locator The {@link By} locator of the element
+     * @return The {@link WaitCondition}
+     */
+    public static WaitCondition presenceOf(By locator) {
+        return locatorCondition("presence of " + locator, "__find($0, $1).length > 0", locator);
+    }
+
+    /**
+     * Condition satisfied when the first element matching the locator is displayed.
+     *
+     * @param locator The {@link By} locator of the element
+     * @return The {@link WaitCondition}
+     */
+    public static WaitCondition visibilityOf(By locator) {
+        return locatorCondition("visibility of " + locator, "__visible(__find($0, $1)[0])", locator);
+    }
+
+    /**
+     * Condition satisfied when no element matching the locator is displayed.
+     *
+     * @param locator The {@link By} locator of the element
+     * @return The {@link WaitCondition}
+     */
+    public static WaitCondition invisibilityOf(By locator) {
+        return locatorCondition("invisibility of " + locator, "__find($0, $1).every(function(e) { return !__visible(e); })", locator);
+    }
+
+    /**
+     * Condition satisfied when the first element matching the locator is displayed and enabled.
+     *
+     * @param locator The {@link By} locator of the element
+     * @return The {@link WaitCondition}
+     */
+    public static WaitCondition elementToBeClickable(By locator) {
+        return locatorCondition("element to be clickable " + locator,
+                "(function(e) { return __visible(e) && !e.disabled; })(__find($0, $1)[0])", locator);
+    }
+
+    /**
+     * Condition satisfied when the first element matching the locator contains the given text.
+     *
+     * @param locator The {@link By} locator of the element
+     * @param text    The text expected within the element
+     * @return The {@link WaitCondition}
+     */
+    public static WaitCondition textToBePresent(By locator, String text) {
+        List<Object> args = new ArrayList<>(ScriptLocator.toArguments(locator));
+        args.add(text);
+        return new WaitCondition("text '" + text + "' to be present in " + locator,
+                "(function(e) { return !!e && (e.innerText || e.textContent || '').indexOf($2) >= 0; })"
+                        + "(__find($0, $1)[0])", args);
+    }
+
+    /**
+     * Condition backed by a custom JavaScript expression evaluated in the page.
+     * <p>
+     * The expression must evaluate to a truthy or falsy value, e.g.
+     * {@code "document.readyState === 'complete'"}.
+     * </p>
+     *
+     * @param description Description used in results and timeout messages
+     * @param jsExpression JavaScript boolean expression
+     * @return The {@link WaitCondition}
+     */
+    public static WaitCondition script(String description, String jsExpression) {
+        return new WaitCondition(description, "(function() { return (" + jsExpression + "); })()",
+                new ArrayList<>());
+    }
+
+    private static WaitCondition locatorCondition(String description, String expression, By locator) {
+        return new WaitCondition(description, expression, new ArrayList<>(ScriptLocator.toArguments(locator)));
+    }
+
+    /**
+     * Returns this condition's JavaScript expression with its argument placeholders
+     * bound to {@code arguments[offset + n]}.
+     *
+     * @param offset Index of this condition's first argument in the combined argument list
+     * @return The boolean JavaScript expression
+     */
+    String toScript(int offset) {
+        String script = expression;
+        for (int i = arguments.size() - 1; i >= 0; i--) {
+            script = script.replace("$" + i, "arguments[" + (offset + i) + "]");
+        }
+        return "!!(" + script + ")";
+    }
+
+    /** Returns the arguments passed to {@code executeScript} for this condition. */
+    List<Object> getArguments() {
+        return arguments;
+    }
+
+    /** Returns the description of this condition. */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,96 @@
+package utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a batched multi-condition wait performed by {@link WaitUtils}.
+ * <p>
+ * Records when each {@link WaitCondition} became true (relative to the start of the
+ * wait) and which condition was the last one to become true. The latter is usually the
+ * condition that actually gates the page transition and is the best candidate when
+ * tuning page objects.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * WaitResult result = WaitUtils.waitForAll(conditions);
+ * Logger.info(result.toString());
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class WaitResult {
+
+    /** Time in milliseconds at which each satisfied condition last became true. */
+    private final Map<WaitCondition, Long> satisfiedAt;
+
+    /** Total time spent waiting, in milliseconds. */
+    private final long elapsedMillis;
+
+    /** Number of browser round trips (polls) performed. */
+    private final int polls;
+
+    WaitResult(Map<WaitCondition, Long> satisfiedAt, long elapsedMillis, int polls) {
+        this.satisfiedAt = Collections.unmodifiableMap(new LinkedHashMap<>(satisfiedAt));
+        this.elapsedMillis = elapsedMillis;
+        this.polls = polls;
+    }
+
+    /**
+     * Returns the condition that became true last, or {@code null} if none was satisfied.
+     *
+     * @return The last satisfied {@link WaitCondition}
+     */
+    public WaitCondition getLastSatisfied() {
+        WaitCondition last = null;
+        long lastAt = -1;
+        for (Map.Entry<WaitCondition, Long> entry : satisfiedAt.entrySet()) {
+            if (entry.getValue() >= lastAt) {
+                last = entry.getKey();
+                lastAt = entry.getValue();
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Returns the time (milliseconds since the wait started) at which the given condition
+     * became true, or {@code -1} if it was not satisfied.
+     *
+     * @param condition The condition to look up
+     * @return Time to satisfaction in milliseconds, or {@code -1}
+     */
+    public long getSatisfiedAt(WaitCondition condition) {
+        Long at = satisfiedAt.get(condition);
+        return at == null ? -1 : at;
+    }
+
+    /** Returns the satisfied conditions mapped to the time (ms) at which they became true. */
+    public Map<WaitCondition, Long> getSatisfiedConditions() {
+        return satisfiedAt;
+    }
+
+    /** Returns the total time spent waiting in milliseconds. */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /** Returns the number of polls (browser round trips) performed. */
+    public int getPolls() {
+        return polls;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Wait completed in ").append(elapsedMillis).append(" ms (")
+                .append(polls).append(" polls)");
+        WaitCondition last = getLastSatisfied();
+        if (last != null) {
+            sb.append(", last condition: ").append(last).append(" at ").append(satisfiedAt.get(last)).append(" ms");
+        }
+        return sb.toString();
+    }
+}
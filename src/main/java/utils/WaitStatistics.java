@@ -0,0 +1,285 @@
+package utils;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import constants.Constants;
+
+/**
+ * Persistent per-locator wait telemetry used by {@link WaitUtils}.
+ * <p>
+ * Every locator-based wait records how long the element took to become ready, keyed by
+ * the condition and the locator, so a visibility wait and an invisibility wait on the same
+ * spinner are timed separately. Statistics are kept in memory during the run and persisted to
+ * {@link Constants#_WaitStatisticsFilePath} so they accumulate across runs. When
+ * {@code adaptiveWait=true}, the timeout used for a locator is derived from its
+ * observed p99 for that condition plus {@code adaptiveWaitMargin}, capped at the global
+ * {@code implicitWait}.
+ * Fast elements that are genuinely missing then fail quickly instead of waiting the
+ * full default timeout. A wait that times out under such a shortened timeout sends the
+ * locator back to the default timeout until {@code adaptiveWaitMinSamples} more waits have
+ * been recorded, so a locator that has become slower is re-measured instead of failing
+ * again on its old p99.
+ * </p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>Thread-safe recording of time-to-ready and timeouts per condition and locator</li>
+ *   <li>Count, mean, standard deviation, max and p99 over a rolling sample window</li>
+ *   <li>Adaptive per-locator timeouts (opt-in via {@code config.properties})</li>
+ *   <li>Report of the slowest and most variable locators across runs</li>
+ * </ul>
+ *
+ * <p><b>Configuration:</b></p>
+ * <pre>
+ * adaptiveWait=true
+ * adaptiveWaitMargin=2000
+ * adaptiveWaitMinSamples=20
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class WaitStatistics {
+
+    /** Number of most recent samples kept per locator for percentile calculation. */
+    private static final int SAMPLE_WINDOW = 256;
+
+    /** Number of locators listed in each section of the report. */
+    private static final int REPORT_SIZE = 20;
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /** Statistics keyed by condition and locator description (e.g. {@code visible By.id: username}). */
+    private static final Map<String, LocatorStats> statistics = load();
+
+    /** Private constructor to prevent instantiation. */
+    private WaitStatistics() {}
+
+    /**
+     * Records the time an element took to become ready.
+     *
+     * @param condition The condition waited for (e.g. {@code visible}, {@code invisible})
+     * @param locator   The {@link By} locator waited on
+     * @param millis    Time to ready in milliseconds
+     */
+    public static void record(String condition, By locator, long millis) {
+        statistics.computeIfAbsent(key(condition, locator), k -> new LocatorStats()).record(millis);
+    }
+
+    /**
+     * Records a wait on the locator that timed out.
+     *
+     * @param condition      The condition waited for
+     * @param locator        The {@link By} locator waited on
+     * @param timeout        The timeout the wait used
+     * @param defaultSeconds The global default timeout in seconds
+     */
+    public static void recordTimeout(String condition, By locator, Duration timeout, int defaultSeconds) {
+        statistics.computeIfAbsent(key(condition, locator), k -> new LocatorStats())
+                .recordTimeout(timeout.compareTo(Duration.ofSeconds(defaultSeconds)) < 0);
+    }
+
+    /**
+     * Returns the timeout to use for the given locator.
+     * <p>
+     * When adaptive waits are disabled, or fewer than {@code adaptiveWaitMinSamples} waits
+     * for the condition were recorded for the locator, the default timeout is returned unchanged.
+     * The same applies after the locator timed out under an adaptive timeout, until
+     * {@code adaptiveWaitMinSamples} more waits have been recorded.
+     * </p>
+     *
+     * @param condition      The condition about to be waited for
+     * @param locator        The {@link By} locator about to be waited on
+     * @param defaultSeconds The global default timeout in seconds
+     * @return The timeout to apply
+     */
+    public static Duration timeoutFor(String condition, By locator, int defaultSeconds) {
+        Duration defaultTimeout = Duration.ofSeconds(defaultSeconds);
+        if (!ConfigReader.getBoolean(ConfigPropertiesKey.ADAPTIVEWAIT)) {
+            return defaultTimeout;
+        }
+        LocatorStats stats = statistics.get(key(condition, locator));
+        int minSamples = ConfigReader.getInt(ConfigPropertiesKey.ADAPTIVEWAITMINSAMPLES, 20);
+        if (stats == null || stats.count < minSamples || stats.timedOutSince(minSamples)) {
+            return defaultTimeout;
+        }
+        Duration adaptive = Duration.ofMillis(stats.percentile(0.99) + ConfigReader.getLong(ConfigPropertiesKey.ADAPTIVEWAITMARGIN, 2000));
+        return adaptive.compareTo(defaultTimeout) < 0 ? adaptive : defaultTimeout;
+    }
+
+    /**
+     * Returns the locators with the highest p99 wait time.
+     *
+     * @param limit Maximum number of entries to return
+     * @return Locator descriptions ordered from slowest to fastest
+     */
+    public static List<String> getSlowestLocators(int limit) {
+        return top(Comparator.comparingLong(e -> e.getValue().percentile(0.99)), limit);
+    }
+
+    /**
+     * Returns the locators whose wait times vary the most (highest standard deviation).
+     *
+     * @param limit Maximum number of entries to return
+     * @return Locator descriptions ordered from most to least variable
+     */
+    public static List<String> getMostVariableLocators(int limit) {
+        return top(Comparator.comparingDouble(e -> e.getValue().standardDeviation()), limit);
+    }
+
+    private static String key(String condition, By locator) {
+        return condition + ' ' + locator;
+    }
+
+    private static List<String> top(Comparator<Map.Entry<String, LocatorStats>> comparator, int limit) {
+        List<Map.Entry<String, LocatorStats>> entries = new ArrayList<>(statistics.entrySet());
+        entries.sort(comparator.reversed());
+        List<String> locators = new ArrayList<>();
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            locators.add(entries.get(i).getKey());
+        }
+        return locators;
+    }
+
+    /**
+     * Persists the accumulated statistics to {@link Constants#_WaitStatisticsFilePath}.
+     * <p>
+     * Typically called once at the end of the suite by {@link listener.Listener}.
+     * </p>
+     */
+    public static synchronized void save() {
+        File file = new File(Constants._WaitStatisticsFilePath);
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            GSON.toJson(statistics, writer);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a plain-text report of the slowest and most variable locators.
+     *
+     * @param folderPath Folder in which {@code WaitStatistics_Report.txt} is created
+     */
+    public static void writeReport(String folderPath) {
+        File file = new File(folderPath, "WaitStatistics_Report.txt");
+        file.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("Slowest locators (by p99 time-to-ready)");
+            writeSection(out, getSlowestLocators(REPORT_SIZE));
+            out.println();
+            out.println("Most variable locators (by standard deviation)");
+            writeSection(out, getMostVariableLocators(REPORT_SIZE));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void writeSection(PrintWriter out, List<String> locators) {
+        out.println(String.format("%-60s %8s %8s %8s %8s %8s %8s",
+                "Wait", "Count", "Mean", "StdDev", "p99", "Max", "Timeouts"));
+        for (String locator : locators) {
+            LocatorStats s = statistics.get(locator);
+            out.println(String.format("%-60s %8d %8.0f %8.0f %8d %8d %8d",
+                    locator, s.count, s.mean, s.standardDeviation(), s.percentile(0.99), s.max, s.timeouts));
+        }
+    }
+
+    private static Map<String, LocatorStats> load() {
+        Map<String, LocatorStats> loaded = new ConcurrentHashMap<>();
+        File file = new File(Constants._WaitStatisticsFilePath);
+        if (file.exists()) {
+            Type type = new TypeToken<Map<String, LocatorStats>>() {}.getType();
+            try (Reader reader = new FileReader(file)) {
+                Map<String, LocatorStats> stored = GSON.fromJson(reader, type);
+                if (stored != null) {
+                    loaded.putAll(stored);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Running statistics for a single locator.
+     * <p>
+     * Mean and variance use Welford's algorithm; percentiles are computed over a
+     * rolling window of the most recent {@value #SAMPLE_WINDOW} samples.
+     * </p>
+     */
+    static class LocatorStats {
+        long count;
+        long timeouts;
+        long adaptiveTimeouts;
+        /** The sample count when the last adaptive timeout was recorded. */
+        long countAtAdaptiveTimeout;
+        long max;
+        double mean;
+        double m2;
+        long[] samples = new long[SAMPLE_WINDOW];
+        int next;
+
+        synchronized void record(long millis) {
+            count++;
+            double delta = millis - mean;
+            mean += delta / count;
+            m2 += delta * (millis - mean);
+            max = Math.max(max, millis);
+            samples[next] = millis;
+            next = (next + 1) % SAMPLE_WINDOW;
+        }
+
+        synchronized void recordTimeout(boolean adaptive) {
+            timeouts++;
+            if (adaptive) {
+                adaptiveTimeouts++;
+                countAtAdaptiveTimeout = count;
+            }
+        }
+
+        /** Whether an adaptive timeout was recorded fewer than {@code samples} waits ago. */
+        synchronized boolean timedOutSince(int samples) {
+            return adaptiveTimeouts > 0 && count - countAtAdaptiveTimeout < samples;
+        }
+
+        synchronized double standardDeviation() {
+            return count < 2 ? 0 : Math.sqrt(m2 / (count - 1));
+        }
+
+        synchronized long percentile(double percentile) {
+            int size = (int) Math.min(count, SAMPLE_WINDOW);
+            if (size == 0) {
+                return 0;
+            }
+            long[] window = Arrays.copyOf(samples, size);
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile * size) - 1;
+            return window[Math.max(0, Math.min(index, size - 1))];
+        }
+    }
+}
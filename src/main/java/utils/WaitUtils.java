@@ -8,8 +8,15 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import config.ConfigReader;
 import constants.ConfigPropertiesKey;
 import driver.DriverManager;
+import reports.LiveMetrics;
+import reports.StepTimeline;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
 
@@ -26,6 +33,8 @@ import java.util.function.Function;
  *   <li>Explicit waits for visibility, clickability, and presence</li>
  *   <li>Fluent waits with configurable polling</li>
  *   <li>Graceful handling of stale and missing elements</li>
+ *   <li>Batched multi-condition waits evaluated in a single browser round trip per poll</li>
+ *   <li>Per-locator wait telemetry with optional adaptive timeouts (see {@link WaitStatistics})</li>
  *   <li>Custom pause method for short manual waits</li>
  * </ul>
  *
@@ -46,10 +55,6 @@ import java.util.function.Function;
  */
 public class WaitUtils {
 
-    /** Default timeout duration in seconds, loaded from config.properties */
-    private static final int DEFAULT_TIMEOUT = Integer.parseInt(
-            ConfigReader.getProperty(ConfigPropertiesKey.WAITTIMEOUT));
-
     /** Polling interval in milliseconds for FluentWait */
     private static final int POLLING_INTERVAL = 500;
 
@@ -63,7 +68,7 @@ public class WaitUtils {
      * @return The visible {@link WebElement}
      */
     public static WebElement waitForVisibility(WebElement element) {
-        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(DEFAULT_TIMEOUT));
+        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(defaultTimeout()));
         return wait.until(ExpectedConditions.visibilityOf(element));
     }
 
@@ -74,7 +79,7 @@ public class WaitUtils {
      * @return The clickable {@link WebElement}
      */
     public static WebElement waitForElementToBeClickable(WebElement element) {
-        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(DEFAULT_TIMEOUT));
+        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(defaultTimeout()));
         return wait.until(ExpectedConditions.elementToBeClickable(element));
     }
 
@@ -85,8 +90,7 @@ public class WaitUtils {
      * @return {@code true} if the element is invisible, {@code false} otherwise
      */
     public static boolean waitForInvisibility(By locator) {
-        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(DEFAULT_TIMEOUT));
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return timedWait("invisible", locator, ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
@@ -96,8 +100,27 @@ public class WaitUtils {
      * @return The located {@link WebElement}
      */
     public static WebElement waitForPresence(By locator) {
-        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(DEFAULT_TIMEOUT));
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return timedWait("present", locator, ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    /**
+     * Waits until an element located by the given locator becomes visible on the page.
+     *
+     * @param locator The {@link By} locator for the element
+     * @return The visible {@link WebElement}
+     */
+    public static WebElement waitForVisibility(By locator) {
+        return timedWait("visible", locator, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    /**
+     * Waits until an element located by the given locator becomes clickable.
+     *
+     * @param locator The {@link By} locator for the element
+     * @return The clickable {@link WebElement}
+     */
+    public static WebElement waitForElementToBeClickable(By locator) {
+        return timedWait("clickable", locator, ExpectedConditions.elementToBeClickable(locator));
     }
 
     /**
@@ -112,19 +135,158 @@ public class WaitUtils {
      * @return The found {@link WebElement}
      */
     public static WebElement fluentWait(final By locator) {
+        Duration timeout = WaitStatistics.timeoutFor("found", locator, defaultTimeout());
         FluentWait<WebDriver> wait = new FluentWait<>(DriverManager.getDriver())
-                .withTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT))
+                .withTimeout(timeout)
                 .pollingEvery(Duration.ofMillis(POLLING_INTERVAL))
                 .ignoring(NoSuchElementException.class)
                 .ignoring(StaleElementReferenceException.class);
 
-        return wait.until(new Function<WebDriver, WebElement>() {
+        return recordWait("found", locator, timeout, wait, new Function<WebDriver, WebElement>() {
             public WebElement apply(WebDriver driver) {
                 return driver.findElement(locator);
             }
         });
     }
 
+    /** Returns the default timeout in seconds ({@code implicitWait}) for the current test. */
+    private static int defaultTimeout() {
+        return ConfigReader.getInt(ConfigPropertiesKey.WAITTIMEOUT);
+    }
+
+    /**
+     * Runs a locator-based {@link WebDriverWait} using the locator's (possibly adaptive)
+     * timeout and records its time-to-ready in {@link WaitStatistics}.
+     *
+     * @param name      The name the condition's statistics are kept under (e.g. {@code visible})
+     * @param locator   The {@link By} locator being waited on
+     * @param condition The condition to wait for
+     * @return The value returned by the condition
+     */
+    private static <T> T timedWait(String name, By locator, Function<? super WebDriver, T> condition) {
+        Duration timeout = WaitStatistics.timeoutFor(name, locator, defaultTimeout());
+        WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), timeout);
+        return recordWait(name, locator, timeout, wait, condition);
+    }
+
+    /**
+     * Waits on the given {@link FluentWait}, which uses {@code timeout}, and records the elapsed
+     * time, or a timeout, against the condition and locator and, with {@code traceUtilityCalls} enabled, as a {@link StepTimeline} step.
+     */
+    private static <T> T recordWait(String name, By locator, Duration timeout, FluentWait<WebDriver> wait, Function<? super WebDriver, T> condition) {
+        long start = System.nanoTime();
+        try {
+            T value = wait.until(condition);
+            WaitStatistics.record(name, locator, (System.nanoTime() - start) / 1_000_000);
+            return value;
+        } catch (TimeoutException e) {
+            WaitStatistics.recordTimeout(name, locator, timeout, defaultTimeout());
+            throw e;
+        } finally {
+            LiveMetrics.waited(System.nanoTime() - start);
+            StepTimeline.markUtility("WaitUtils", name, locator);
+        }
+    }
+
+    /**
+     * Waits until all of the given conditions are satisfied.
+     * <p>
+     * The conditions are compiled into a single JavaScript snippet which is evaluated
+     * once per poll, so waiting for several conditions costs one browser round trip per
+     * polling interval instead of one {@link WebDriverWait} per condition.
+     * </p>
+     *
+     * @param conditions The {@link WaitCondition}s to wait for
+     * @return A {@link WaitResult} reporting when each condition became true
+     * @throws TimeoutException if the conditions are not all satisfied within the default timeout
+     */
+    public static WaitResult waitForAll(WaitCondition... conditions) {
+        return waitForConditions(true, conditions);
+    }
+
+    /**
+     * Waits until at least one of the given conditions is satisfied.
+     * <p>
+     * Evaluated the same way as {@link #waitForAll(WaitCondition...)}; the returned
+     * {@link WaitResult} identifies which condition matched.
+     * </p>
+     *
+     * @param conditions The {@link WaitCondition}s to wait for
+     * @return A {@link WaitResult} reporting the satisfied condition(s)
+     * @throws TimeoutException if none of the conditions is satisfied within the default timeout
+     */
+    public static WaitResult waitForAny(WaitCondition... conditions) {
+        return waitForConditions(false, conditions);
+    }
+
+    /**
+     * Compiles the conditions into one script and polls it until the conditions are met.
+     *
+     * @param requireAll {@code true} to wait for all conditions, {@code false} for any
+     * @param conditions The conditions to evaluate
+     * @return The {@link WaitResult} of the wait
+     */
+    private static WaitResult waitForConditions(final boolean requireAll, final WaitCondition... conditions) {
+        if (conditions == null || conditions.length == 0) {
+            throw new IllegalArgumentException("At least one wait condition is required");
+        }
+
+        StringBuilder script = new StringBuilder(ScriptLocator.FIND_FUNCTION).append("return [");
+        final List<Object> arguments = new ArrayList<>();
+        for (int i = 0; i < conditions.length; i++) {
+            script.append(i == 0 ? "" : ", ").append(conditions[i].toScript(arguments.size()));
+            arguments.addAll(conditions[i].getArguments());
+        }
+        final String compiled = script.append("];").toString();
+
+        final long start = System.nanoTime();
+        final long[] satisfiedAt = new long[conditions.length];
+        final int[] polls = {0};
+        Arrays.fill(satisfiedAt, -1);
+
+        FluentWait<WebDriver> wait = new FluentWait<>(DriverManager.getDriver())
+                .withTimeout(Duration.ofSeconds(defaultTimeout()))
+                .pollingEvery(Duration.ofMillis(POLLING_INTERVAL))
+                .ignoring(StaleElementReferenceException.class)
+                .withMessage(() -> "waiting for " + (requireAll ? "all" : "any") + " of " + pending(conditions, satisfiedAt));
+
+        try {
+            wait.until(driver -> {
+                List<?> states = (List<?>) ((JavascriptExecutor) driver).executeScript(compiled, arguments.toArray());
+                long now = (System.nanoTime() - start) / 1_000_000;
+                polls[0]++;
+                int met = 0;
+                for (int i = 0; i < conditions.length; i++) {
+                    if (Boolean.TRUE.equals(states.get(i))) {
+                        if (satisfiedAt[i] < 0) satisfiedAt[i] = now;
+                        met++;
+                    } else {
+                        satisfiedAt[i] = -1;
+                    }
+                }
+                return requireAll ? met == conditions.length : met > 0;
+            });
+        } finally {
+            LiveMetrics.waited(System.nanoTime() - start);
+            StepTimeline.markUtility("WaitUtils", requireAll ? "all" : "any", Arrays.asList(conditions));
+        }
+
+        Map<WaitCondition, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < conditions.length; i++) {
+            if (satisfiedAt[i] >= 0) result.put(conditions[i], satisfiedAt[i]);
+        }
+        return new WaitResult(result, (System.nanoTime() - start) / 1_000_000, polls[0]);
+    }
+
+    /** Lists the conditions that are not yet satisfied, for timeout messages. */
+    private static List<WaitCondition> pending(WaitCondition[] conditions, long[] satisfiedAt) {
+        List<WaitCondition> pending = new ArrayList<>();
+        for (int i = 0; i < conditions.length; i++) {
+            if (satisfiedAt[i] < 0) pending.add(conditions[i]);
+        }
+        return pending;
+    }
+
     /**
      * Pauses execution for a specified number of milliseconds.
      * <p>
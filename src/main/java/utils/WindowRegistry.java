@@ -0,0 +1,303 @@
+package utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import base.TestContext;
+import config.ConfigReader;
+import constants.ConfigPropertiesKey;
+import driver.DriverManager;
+
+/**
+ * Per-driver registry of browser windows and tabs.
+ * <p>
+ * Tracks window handles in the order they were discovered, remembers which window
+ * opened which (the opener/parent relationship) and caches each window's title and URL.
+ * Switching by title checks the cached titles first and only visits windows whose title
+ * is unknown or out of date, so the common case is one {@code switchTo().window()} plus
+ * one {@code getTitle()} verification instead of visiting every window.
+ * </p>
+ *
+ * <p><b>Features:</b></p>
+ * <ul>
+ *   <li>Lazy refresh: handles are re-read only when a lookup needs them</li>
+ *   <li>Opener tracking so {@link #switchToParent()} returns to the real parent window</li>
+ *   <li>Waiting for new windows to appear via {@link #waitForNewWindow()} and {@link #waitForNewWindows()}</li>
+ *   <li>Cached titles and URLs per handle</li>
+ * </ul>
+ *
+ * <p>Usually accessed through the window methods of {@link DriverUtils}.</p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class WindowRegistry {
+
+    /** The driver whose windows are tracked. */
+    private final WebDriver driver;
+
+    /** Known windows keyed by handle, in discovery order. */
+    private final Map<String, WindowInfo> windows = new LinkedHashMap<>();
+
+    /** Handle of the first window of the session. */
+    private final String rootHandle;
+
+    /** Last handle known to be current, used once the current window has been closed. */
+    private String lastHandle;
+
+    private WindowRegistry(WebDriver driver) {
+        this.driver = driver;
+        this.rootHandle = driver.getWindowHandle();
+        this.lastHandle = rootHandle;
+        windows.put(rootHandle, new WindowInfo(null));
+    }
+
+    /**
+     * Returns the registry for the current test's driver, creating it on first use. It is kept
+     * as driver state of the test's {@link TestContext}, so threads the context is propagated
+     * to share it.
+     *
+     * @return The current {@link WindowRegistry}
+     */
+    public static WindowRegistry current() {
+        WebDriver driver = DriverManager.getDriver();
+        TestContext context = TestContext.current();
+        WindowRegistry current = context.getDriverState(WindowRegistry.class);
+        if (current == null || current.driver != driver) {
+            current = new WindowRegistry(driver);
+            context.setDriverState(WindowRegistry.class, current);
+        }
+        return current;
+    }
+
+    /** Removes the registry bound to the current test's driver. Called when the driver is quit or reset. */
+    public static void unload() {
+        TestContext context = TestContext.get();
+        if (context != null) {
+            context.setDriverState(WindowRegistry.class, null);
+        }
+    }
+
+    /**
+     * Re-reads the open window handles, dropping closed windows and registering new ones
+     * with the current window as their opener.
+     */
+    public void refresh() {
+        register(driver.getWindowHandles(), null);
+    }
+
+    /**
+     * Waits (up to the default {@code implicitWait} timeout) for a window that is not yet
+     * registered to open, and registers it with the current window as its opener.
+     * <p>
+     * The driver reports window handles as an unordered set, so when several windows
+     * appear at once there is no telling which one opened last; use
+     * {@link #waitForNewWindows()} when an action may open more than one.
+     * </p>
+     *
+     * @return The handle of the new window
+     * @throws org.openqa.selenium.TimeoutException if no new window appears in time
+     * @throws IllegalStateException if more than one new window appeared
+     */
+    public String waitForNewWindow() {
+        List<String> opened = waitForNewWindows();
+        if (opened.size() > 1) {
+            throw new IllegalStateException(opened.size() + " new windows opened at once " + opened
+                    + "; use waitForNewWindows() and pick one by title or URL");
+        }
+        return opened.get(0);
+    }
+
+    /**
+     * Waits (up to the default {@code implicitWait} timeout) for at least one window that is
+     * not yet registered to open, and registers all new windows with the current window as
+     * their opener.
+     *
+     * @return The handles of the windows that appeared, at least one
+     * @throws org.openqa.selenium.TimeoutException if no new window appears in time
+     */
+    public List<String> waitForNewWindows() {
+        final String opener = driver.getWindowHandle();
+        int timeout = ConfigReader.getInt(ConfigPropertiesKey.WAITTIMEOUT);
+        final List<String> opened = new ArrayList<>();
+        new WebDriverWait(driver, Duration.ofSeconds(timeout))
+                .withMessage("waiting for a new window to open")
+                .until(d -> {
+                    Set<String> handles = d.getWindowHandles();
+                    opened.clear();
+                    opened.addAll(register(handles, opener));
+                    return !opened.isEmpty();
+                });
+        return opened;
+    }
+
+    /**
+     * Switches to the given window with a single command.
+     *
+     * @param handle The window handle
+     */
+    public void switchTo(String handle) {
+        driver.switchTo().window(handle);
+        lastHandle = handle;
+    }
+
+    /**
+     * Switches to the window with the given title (case-insensitive).
+     * <p>
+     * Windows whose cached title matches are tried first, then windows with an unknown
+     * title, and finally windows whose cached title may be out of date. If no window
+     * matches, focus returns to the window that was current before the call.
+     * </p>
+     *
+     * @param title The window title
+     * @throws NoSuchWindowException if no open window has the title
+     */
+    public void switchToTitle(String title) {
+        String original = currentHandle();
+        refresh();
+        List<String> matching = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        for (Map.Entry<String, WindowInfo> window : windows.entrySet()) {
+            String cached = window.getValue().title;
+            (cached == null ? unknown : cached.equalsIgnoreCase(title) ? matching : others).add(window.getKey());
+        }
+        matching.addAll(unknown);
+        matching.addAll(others);
+        for (String handle : matching) {
+            if (visit(handle, title)) {
+                return;
+            }
+        }
+        if (windows.containsKey(original) && !original.equals(lastHandle)) {
+            switchTo(original);
+        }
+        throw new NoSuchWindowException("No open window with title: " + title);
+    }
+
+    /**
+     * Switches to the opener of the current window, or to the first window of the
+     * session if the opener is unknown or closed.
+     * <p>
+     * Works after the current window was closed ({@code driver.close()}), using the last
+     * window the registry knew to be current.
+     * </p>
+     *
+     * @throws NoSuchWindowException if no window is left open
+     */
+    public void switchToParent() {
+        String opener = getOpener(currentHandle());
+        if (opener != null && windows.containsKey(opener)) {
+            try {
+                switchTo(opener);
+                return;
+            } catch (NoSuchWindowException e) {
+                // the opener was closed since the last refresh
+            }
+        }
+        refresh();
+        if (windows.isEmpty()) {
+            throw new NoSuchWindowException("No open window to switch to");
+        }
+        switchTo(windows.containsKey(rootHandle) ? rootHandle : windows.keySet().iterator().next());
+    }
+
+    /**
+     * Returns the handle of the window that opened the given window.
+     *
+     * @param handle The window handle
+     * @return The opener's handle, or {@code null} for the first window or unknown windows
+     */
+    public String getOpener(String handle) {
+        WindowInfo info = windows.get(handle);
+        return info == null ? null : info.opener;
+    }
+
+    /** Returns the cached title of the window, or {@code null} if not yet known. */
+    public String getTitle(String handle) {
+        WindowInfo info = windows.get(handle);
+        return info == null ? null : info.title;
+    }
+
+    /** Returns the cached URL of the window, or {@code null} if not yet known. */
+    public String getUrl(String handle) {
+        WindowInfo info = windows.get(handle);
+        return info == null ? null : info.url;
+    }
+
+    /** Returns the handles of the known windows in discovery order. */
+    public List<String> getHandles() {
+        return new ArrayList<>(windows.keySet());
+    }
+
+    /**
+     * Switches to the window and checks its live title, updating the cache.
+     *
+     * @return {@code true} if the window has the expected title
+     */
+    private boolean visit(String handle, String title) {
+        switchTo(handle);
+        WindowInfo info = windows.get(handle);
+        info.title = driver.getTitle();
+        if (info.url == null) {
+            info.url = driver.getCurrentUrl();
+        }
+        return info.title.equalsIgnoreCase(title);
+    }
+
+    /**
+     * Synchronizes the registry with the given open handles.
+     *
+     * @param handles The currently open window handles
+     * @param opener  The opener to record for new windows, or {@code null} to use the current window
+     * @return The newly registered handles
+     */
+    private List<String> register(Set<String> handles, String opener) {
+        windows.keySet().retainAll(handles);
+        List<String> added = new ArrayList<>();
+        for (String handle : handles) {
+            if (!windows.containsKey(handle)) {
+                added.add(handle);
+            }
+        }
+        if (!added.isEmpty()) {
+            String parent = opener != null ? opener : currentHandle();
+            for (String handle : added) {
+                windows.put(handle, new WindowInfo(parent));
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Returns the handle of the current window, or the last handle known to be current if
+     * the current window has been closed.
+     */
+    private String currentHandle() {
+        try {
+            lastHandle = driver.getWindowHandle();
+        } catch (NoSuchWindowException e) {
+            // the current window was closed; W3C drivers keep no current handle
+        }
+        return lastHandle;
+    }
+
+    /** Cached information about one window. */
+    private static class WindowInfo {
+        final String opener;
+        String title;
+        String url;
+
+        WindowInfo(String opener) {
+            this.opener = opener;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.restassured.http.Cookie;
+
+/**
+ * Tests of {@link ApiClient} against a stub server on the JDK's {@link HttpServer}.
+ * <p>
+ * The stub sets the cookie named by the {@code set} query parameter, with the attributes
+ * given in the remaining parameters, and echoes the {@code Cookie} header it received as
+ * the response body. Each test starts from an empty API session.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test -Dtestng.xml.file=src/test/resources/testng-api.xml
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ApiClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    /** Client ports of the connections the stub has served. */
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void resetSession() {
+        ApiClient.reset();
+    }
+
+    @Test
+    public void reusesPooledKeepAliveConnection() {
+        clientPorts.clear();
+        for (int i = 0; i < 5; i++) {
+            ApiClient.request(baseUrl).get("/ping").then().statusCode(200);
+        }
+        Assert.assertEquals(clientPorts.size(), 1, "Connections opened for 5 sequential calls: " + clientPorts);
+    }
+
+    @Test
+    public void storesAndSendsSessionCookies() {
+        ApiClient.request(baseUrl).get("/login?set=session&value=abc&Path=/").then().statusCode(200);
+
+        Assert.assertEquals(ApiClient.getSessionCookies(baseUrl + "/orders").get("session").getValue(), "abc");
+        Assert.assertEquals(echo("/orders"), "session=abc");
+    }
+
+    @Test
+    public void sendsCookiesOnlyToTheirPath() {
+        ApiClient.request(baseUrl).get("/app/login?set=scoped&value=1&Path=/app").then().statusCode(200);
+
+        Assert.assertEquals(echo("/app/orders"), "scoped=1");
+        Assert.assertEquals(echo("/application"), "");
+        Assert.assertEquals(echo("/other"), "");
+    }
+
+    @Test
+    public void defaultsThePathToTheRequestDirectory() {
+        ApiClient.request(baseUrl).get("/shop/cart/add?set=cart&value=7").then().statusCode(200);
+
+        Assert.assertEquals(echo("/shop/cart/view"), "cart=7");
+        Assert.assertEquals(echo("/shop"), "");
+    }
+
+    @Test
+    public void scopesCookiesToTheirDomain() {
+        ApiClient.request(baseUrl).get("/login?set=hostOnly&value=1&Path=/").then().statusCode(200);
+        ApiClient.request(baseUrl).get("/login?set=wide&value=2&Path=/&Domain=.example.test").then().statusCode(200);
+
+        Map<String, Cookie> sameHost = ApiClient.getSessionCookies(baseUrl + "/");
+        Assert.assertTrue(sameHost.containsKey("hostOnly"));
+        Assert.assertFalse(sameHost.containsKey("wide"));
+
+        Map<String, Cookie> subdomain = ApiClient.getSessionCookies("http://shop.example.test/");
+        Assert.assertTrue(subdomain.containsKey("wide"));
+        Assert.assertFalse(subdomain.containsKey("hostOnly"));
+
+        Assert.assertTrue(ApiClient.getSessionCookies("http://localhost:" + server.getAddress().getPort() + "/").isEmpty(),
+                "A host-only cookie of 127.0.0.1 must not be sent to localhost");
+    }
+
+    @Test
+    public void removesExpiredCookies() {
+        ApiClient.request(baseUrl).get("/login?set=session&value=abc&Path=/").then().statusCode(200);
+        ApiClient.request(baseUrl).get("/login?set=remember&value=yes&Path=/").then().statusCode(200);
+
+        ApiClient.request(baseUrl).get("/logout?set=session&value=&Path=/&Max-Age=0").then().statusCode(200);
+        ApiClient.request(baseUrl).get("/logout?set=remember&value=&Path=/&Expires=Thu, 01 Jan 1970 00:00:00 GMT")
+                .then().statusCode(200);
+
+        Assert.assertTrue(ApiClient.getSessionCookies(baseUrl + "/").isEmpty());
+        Assert.assertEquals(echo("/orders"), "");
+    }
+
+    @Test
+    public void resetClearsTheSession() {
+        ApiClient.request(baseUrl).get("/login?set=session&value=abc&Path=/").then().statusCode(200);
+
+        ApiClient.reset();
+
+        Assert.assertTrue(ApiClient.getSessionCookies(baseUrl + "/").isEmpty());
+        Assert.assertEquals(echo("/orders"), "");
+    }
+
+    /** Calls the stub and returns the {@code Cookie} header it received. */
+    private String echo(String path) {
+        return ApiClient.request(baseUrl).get(path).then().statusCode(200).extract().asString();
+    }
+
+    /** Sets the requested cookie and echoes the request's {@code Cookie} header. */
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            StringBuilder cookie = new StringBuilder();
+            for (String parameter : query.split("&")) {
+                String[] pair = parameter.split("=", 2);
+                String value = pair.length == 2 ? pair[1] : "";
+                if ("set".equals(pair[0])) {
+                    cookie.insert(0, value + "=");
+                } else if ("value".equals(pair[0])) {
+                    cookie.append(value);
+                } else {
+                    cookie.append("; ").append(pair[0]).append('=').append(value);
+                }
+            }
+            exchange.getResponseHeaders().add("Set-Cookie", cookie.toString());
+        }
+        String received = exchange.getRequestHeaders().getFirst("Cookie");
+        byte[] body = (received == null ? "" : received).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        // An empty body is sent chunked: without a length (-1) the server would close the connection
+        exchange.sendResponseHeaders(200, body.length == 0 ? 0 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
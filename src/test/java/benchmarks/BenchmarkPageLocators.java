@@ -0,0 +1,22 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+
+import pagegen.GeneratePage;
+
+/**
+ * Login page locators used by {@link PageElementsBenchmark}; the build generates
+ * {@code BenchmarkPageElements} from them.
+ *
+ * @author
+ * @version 1.0
+ */
+@GeneratePage
+public interface BenchmarkPageLocators {
+
+    By txtUsername = By.id("username");
+    By txtPassword = By.id("password");
+    By chkRememberMe = By.id("rememberMe");
+    By btnLogin = By.id("loginBtn");
+    By lblErrorMessage = By.xpath("//div[@class='error']");
+}
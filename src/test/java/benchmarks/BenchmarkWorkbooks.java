@@ -0,0 +1,132 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Generates the test data workbooks read by the data benchmarks.
+ * <p>
+ * Every workbook has one sheet, {@code Sheet1}, with a header row and the given number of
+ * order rows: a unique {@code TestCaseId} ({@code TC_1} … {@code TC_n}), text, numeric and
+ * flag columns. The rows are written with POI's streaming writer, so generating a 100k-row
+ * fixture does not need the heap the benchmarks are measuring. The same rows can also be
+ * written as CSV, JSON or YAML with {@link #create(int, String)}.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+final class BenchmarkWorkbooks {
+
+    /** The sheet holding the rows. */
+    static final String SHEET = "Sheet1";
+
+    /** The column headers, in sheet order. */
+    static final String[] HEADERS = {"TestCaseId", "Username", "Password", "Quantity", "Price", "Run", "Tags"};
+
+    private BenchmarkWorkbooks() {}
+
+    /**
+     * Writes a workbook with the given number of data rows to a temporary file, deleted on exit.
+     *
+     * @param rows The number of data rows
+     * @return The workbook file
+     */
+    static File create(int rows) throws IOException {
+        File file = File.createTempFile("benchmark-" + rows + "-", ".xlsx");
+        file.deleteOnExit();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try (OutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue(testCaseId(r));
+                row.createCell(1).setCellValue("user" + r + "@example.com");
+                row.createCell(2).setCellValue("secret" + (r % 97));
+                row.createCell(3).setCellValue(r % 10 + 1);
+                row.createCell(4).setCellValue(r % 1000 / 10.0);
+                row.createCell(5).setCellValue(r % 5 == 0 ? "N" : "Y");
+                row.createCell(6).setCellValue(r % 3 == 0 ? "smoke,regression" : "regression");
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        return file;
+    }
+
+    /**
+     * Writes the rows of {@link #create(int)} in the given format to a temporary file,
+     * deleted on exit.
+     *
+     * @param rows      The number of data rows
+     * @param extension The format: {@code xlsx}, {@code csv}, {@code json} or {@code yaml}
+     * @return The data file
+     * @throws IllegalArgumentException if the format is not one of these
+     */
+    static File create(int rows, String extension) throws IOException {
+        if ("xlsx".equals(extension)) {
+            return create(rows);
+        }
+        if (!"csv".equals(extension) && !"json".equals(extension) && !"yaml".equals(extension)) {
+            throw new IllegalArgumentException("Unsupported benchmark data format: " + extension);
+        }
+        File file = File.createTempFile("benchmark-" + rows + "-", "." + extension);
+        file.deleteOnExit();
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            if ("csv".equals(extension)) {
+                out.write(String.join(",", HEADERS) + "\n");
+            } else if ("json".equals(extension)) {
+                out.write("[\n");
+            }
+            for (int r = 1; r <= rows; r++) {
+                String[] values = values(r);
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < HEADERS.length; i++) {
+                    if ("csv".equals(extension)) {
+                        line.append(i == 0 ? "" : ",").append('"').append(values[i]).append('"');
+                    } else {
+                        line.append(i == 0 ? "{" : ", ").append('"').append(HEADERS[i]).append("\": \"")
+                                .append(values[i]).append('"');
+                    }
+                }
+                if ("json".equals(extension)) {
+                    line.append(r < rows ? "}," : "}");
+                } else if ("yaml".equals(extension)) {
+                    line.insert(0, "- ").append('}');
+                }
+                out.write(line.append('\n').toString());
+            }
+            if ("json".equals(extension)) {
+                out.write("]\n");
+            }
+        }
+        return file;
+    }
+
+    /** Returns the {@code TestCaseId} of a data row (1-based). */
+    static String testCaseId(int row) {
+        return "TC_" + row;
+    }
+
+    /** Returns the values of a data row (1-based) as written to text formats. */
+    private static String[] values(int row) {
+        return new String[] {testCaseId(row), "user" + row + "@example.com", "secret" + (row % 97),
+                String.valueOf(row % 10 + 1), String.valueOf(row % 1000 / 10.0), row % 5 == 0 ? "N" : "Y",
+                row % 3 == 0 ? "smoke,regression" : "regression"};
+    }
+}
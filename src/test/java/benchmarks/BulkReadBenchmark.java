@@ -0,0 +1,145 @@
+package benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import base.TestContext;
+import utils.DriverUtils;
+import utils.ElementProperty;
+
+/**
+ * JMH benchmark comparing {@link DriverUtils#readAll(By, ElementProperty...)} with reading
+ * the same values element by element.
+ * <p>
+ * Both read the text and a {@code data-id} attribute of every matched element. The
+ * per-element loop costs one driver call to locate the elements plus one per element and
+ * property; the bulk read one {@code executeScript} call per 500 elements. The driver is a
+ * stub installed in the benchmark thread's {@link TestContext}: each call parks for
+ * {@code roundTripMicros} to stand in for the WebDriver HTTP round trip and returns canned
+ * values, so the numbers show how the number of round trips scales, not browser speed.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=BulkReadBenchmark
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkReadBenchmark {
+
+    private static final By LOCATOR = By.cssSelector("#grid td.id");
+
+    @Param({"100", "1000"})
+    public int elements;
+
+    /** Simulated cost of one driver call, in microseconds. */
+    @Param({"500"})
+    public int roundTripMicros;
+
+    private List<WebElement> matched;
+    private List<Map<String, Object>> rows;
+
+    @Setup
+    public void setUp() {
+        matched = new ArrayList<>();
+        rows = new ArrayList<>();
+        for (int i = 0; i < elements; i++) {
+            final String text = "Order " + i;
+            final String id = String.valueOf(i);
+            matched.add((WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(),
+                    new Class<?>[] {WebElement.class}, (proxy, method, args) -> {
+                        roundTrip();
+                        return "getText".equals(method.getName()) ? text : id;
+                    }));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put(ElementProperty.TEXT.getName(), text);
+            row.put(ElementProperty.attribute("data-id").getName(), id);
+            rows.add(row);
+        }
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    roundTrip();
+                    switch (method.getName()) {
+                        case "findElements":
+                            return matched;
+                        case "executeScript":
+                            Object[] arguments = (Object[]) args[1];
+                            return bulkReadResult((Integer) arguments[3], (Integer) arguments[4]);
+                        default:
+                            return null;
+                    }
+                });
+        TestContext.begin();
+        TestContext.current().setDriver(driver);
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestContext.current().setDriver(null);
+        TestContext.clear();
+    }
+
+    /** Locates the elements, then reads each one's text and attribute with its own call. */
+    @Benchmark
+    public List<Map<String, Object>> perElement() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (WebElement element : TestContext.current().getDriver().findElements(LOCATOR)) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("text", element.getText());
+            row.put("@data-id", element.getAttribute("data-id"));
+            result.add(row);
+        }
+        return result;
+    }
+
+    /** Reads the same values with one script call per chunk. */
+    @Benchmark
+    public List<Map<String, Object>> bulk() {
+        return DriverUtils.readAll(LOCATOR, ElementProperty.TEXT, ElementProperty.attribute("data-id"));
+    }
+
+    /** Returns what the bulk read script returns for the slice {@code [offset, offset + limit)}. */
+    private Map<String, Object> bulkReadResult(int offset, int limit) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("total", (long) elements);
+        result.put("rows", offset >= elements ? Collections.emptyList()
+                : rows.subList(offset, Math.min(elements, offset + limit)));
+        return result;
+    }
+
+    private void roundTrip() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+}
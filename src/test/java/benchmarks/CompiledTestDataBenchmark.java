@@ -0,0 +1,82 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.CompiledTestData;
+import utils.ExcelStreamReader;
+import utils.TestDataTable;
+
+/**
+ * JMH benchmark comparing {@link CompiledTestData#load(File, String)} against building the
+ * same {@link TestDataTable} from the workbook with {@link ExcelStreamReader}.
+ * <p>
+ * These are the two ways {@link utils.TestDataCache} fills a cache miss: from the
+ * memory-mapped compiled file when it is up to date, and by parsing the workbook
+ * otherwise. The workbook is generated and compiled once per trial, and its compiled file
+ * is deleted afterwards.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args="CompiledTestDataBenchmark -prof gc"
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CompiledTestDataBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private File workbook;
+
+    @Setup
+    public void setUp() throws IOException {
+        workbook = BenchmarkWorkbooks.create(rows);
+        CompiledTestData.compile(workbook);
+        if (CompiledTestData.load(workbook, BenchmarkWorkbooks.SHEET) == null) {
+            throw new IllegalStateException("Compiled file was not loaded: " + CompiledTestData.compiledFileFor(workbook));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        CompiledTestData.compiledFileFor(workbook).delete();
+    }
+
+    /** Decodes the sheet from the memory-mapped compiled file. */
+    @Benchmark
+    public TestDataTable compiled() {
+        return CompiledTestData.load(workbook, BenchmarkWorkbooks.SHEET);
+    }
+
+    /** Parses the sheet from the workbook. */
+    @Benchmark
+    public TestDataTable streamed() {
+        try (ExcelStreamReader reader = new ExcelStreamReader(workbook.getPath(), BenchmarkWorkbooks.SHEET)) {
+            return TestDataTable.of(reader.getHeaders(), reader);
+        }
+    }
+}
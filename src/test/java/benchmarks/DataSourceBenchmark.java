@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import datasource.DataSource;
+import datasource.DataSources;
+
+/**
+ * JMH parse-throughput benchmark of the registered {@link DataSources data source} formats.
+ * <p>
+ * Each operation streams every row of the same generated order data, written once per
+ * trial as Excel, CSV, JSON or YAML, through {@link DataSources#open(String, String)}.
+ * Divide {@code rows} by the score for rows per second.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=DataSourceBenchmark
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataSourceBenchmark {
+
+    @Param({"xlsx", "csv", "json", "yaml"})
+    public String format;
+
+    @Param({"10000"})
+    public int rows;
+
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = BenchmarkWorkbooks.create(rows, format);
+        int read = 0;
+        try (DataSource source = DataSources.open(file.getPath(), null)) {
+            for (; source.hasNext(); source.next()) {
+                read++;
+            }
+        }
+        if (read != rows) {
+            throw new IllegalStateException("Read " + read + " of " + rows + " rows from " + file);
+        }
+    }
+
+    /** Streams every row of the file. */
+    @Benchmark
+    public void readAll(Blackhole blackhole) {
+        try (DataSource source = DataSources.open(file.getPath(), null)) {
+            while (source.hasNext()) {
+                blackhole.consume(source.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.ExcelUtils;
+
+/**
+ * JMH microbenchmark of the {@link ExcelUtils} header and key-column indexes against the
+ * header rescan they replaced.
+ * <p>
+ * Both sides read from the same loaded workbook, so only the lookup is measured:
+ * </p>
+ * <ul>
+ *   <li>{@code cellByHeaderRescan} formats and compares the header row on every call to find
+ *       the column, as {@code getCellData} did before the index; {@code cellByHeaderIndex} is
+ *       the current {@code getCellData}. The last column is read, the worst case for the rescan.</li>
+ *   <li>{@code rowByKeyScan} walks the key column until it finds the {@code TestCaseId};
+ *       {@code rowByKeyIndex} is {@code getRowNumByKey} on the hash index.</li>
+ * </ul>
+ * <p>Rows are visited in a fixed pseudo-random order so the key scan does not always stop early.</p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=ExcelLookupBenchmark
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class ExcelLookupBenchmark {
+
+    /** The column read by the cell lookups: the last one. */
+    private static final String COLUMN = BenchmarkWorkbooks.HEADERS[BenchmarkWorkbooks.HEADERS.length - 1];
+
+    private static final String KEY_COLUMN = BenchmarkWorkbooks.HEADERS[0];
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private ExcelUtils excel;
+    private Workbook workbook;
+    private Sheet sheet;
+    private final DataFormatter formatter = new DataFormatter();
+    private int[] order;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File file = BenchmarkWorkbooks.create(rows);
+        excel = new ExcelUtils(file.getPath(), BenchmarkWorkbooks.SHEET);
+        excel.createIndex(KEY_COLUMN);
+        try (InputStream in = new FileInputStream(file)) {
+            workbook = new XSSFWorkbook(in);
+        }
+        sheet = workbook.getSheet(BenchmarkWorkbooks.SHEET);
+        Random random = new Random(42);
+        order = new int[1024];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = 1 + random.nextInt(rows);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        excel.closeWorkbook();
+        workbook.close();
+    }
+
+    /** Finds the column by formatting and comparing every header cell, then reads the cell. */
+    @Benchmark
+    public String cellByHeaderRescan() {
+        int rowNum = nextRow();
+        Row headerRow = sheet.getRow(0);
+        for (int i = 0; i < headerRow.getLastCellNum(); i++) {
+            if (formatter.formatCellValue(headerRow.getCell(i)).equalsIgnoreCase(COLUMN)) {
+                return formatter.formatCellValue(sheet.getRow(rowNum).getCell(i));
+            }
+        }
+        return null;
+    }
+
+    /** Reads the cell through the header index. */
+    @Benchmark
+    public String cellByHeaderIndex() {
+        return excel.getCellData(nextRow(), COLUMN);
+    }
+
+    /** Finds the row by walking the key column. */
+    @Benchmark
+    public int rowByKeyScan() {
+        String key = BenchmarkWorkbooks.testCaseId(nextRow());
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            if (row != null && key.equals(formatter.formatCellValue(row.getCell(0)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Finds the row through the key column's hash index. */
+    @Benchmark
+    public int rowByKeyIndex() {
+        return excel.getRowNumByKey(KEY_COLUMN, BenchmarkWorkbooks.testCaseId(nextRow()));
+    }
+
+    private int nextRow() {
+        next = (next + 1) % order.length;
+        return order[next];
+    }
+}
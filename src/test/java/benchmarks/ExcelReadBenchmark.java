@@ -0,0 +1,81 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import utils.ExcelStreamReader;
+import utils.ExcelUtils;
+
+/**
+ * JMH benchmark comparing a full sheet read with {@link ExcelUtils}, which loads the whole
+ * workbook into memory, against {@link ExcelStreamReader}, which pulls one row at a time.
+ * <p>
+ * Each operation opens the same generated workbook of {@code rows} data rows and reads
+ * every row as a header → value map. Run it with JMH's GC profiler to compare the memory
+ * each reader allocates per full read ({@code gc.alloc.rate.norm}) alongside the time.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args="ExcelReadBenchmark -prof gc"
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ExcelReadBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private File workbook;
+
+    @Setup
+    public void setUp() throws IOException {
+        workbook = BenchmarkWorkbooks.create(rows);
+    }
+
+    /** Loads the workbook and reads every row into a list. */
+    @Benchmark
+    public int excelUtils() {
+        ExcelUtils excel = new ExcelUtils(workbook.getPath(), BenchmarkWorkbooks.SHEET);
+        try {
+            List<Map<String, String>> data = excel.getDataAsListOfMaps();
+            return data.size();
+        } finally {
+            excel.closeWorkbook();
+        }
+    }
+
+    /** Streams every row of the sheet. */
+    @Benchmark
+    public void streamReader(Blackhole blackhole) {
+        try (ExcelStreamReader reader = new ExcelStreamReader(workbook.getPath(), BenchmarkWorkbooks.SHEET)) {
+            while (reader.hasNext()) {
+                blackhole.consume(reader.next());
+            }
+        }
+    }
+}
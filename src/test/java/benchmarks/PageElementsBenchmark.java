@@ -0,0 +1,99 @@
+package benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+
+/**
+ * JMH benchmark comparing page objects built with {@code PageFactory.initElements} against
+ * the accessors generated by {@link pagegen.PageElementsProcessor}.
+ * <p>
+ * Each operation creates a page object for the same five-locator login page and reads the
+ * tag name of its first element, so both paths pay for construction plus one element
+ * lookup: {@code PageFactory} builds a proxy per field up front and resolves the element on
+ * first use, the generated class resolves it in the accessor. Lookups go to a stub
+ * {@link SearchContext} that returns a canned element, so the numbers measure the page
+ * object overhead rather than a browser round trip.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args=PageElementsBenchmark
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageElementsBenchmark {
+
+    /** Stub context standing in for the driver. */
+    private SearchContext context;
+
+    @Setup
+    public void setUp() {
+        WebElement element = (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(),
+                new Class<?>[] {WebElement.class},
+                (proxy, method, args) -> "getTagName".equals(method.getName()) ? "button" : null);
+        context = (SearchContext) Proxy.newProxyInstance(SearchContext.class.getClassLoader(),
+                new Class<?>[] {SearchContext.class},
+                (proxy, method, args) -> "findElements".equals(method.getName())
+                        ? Collections.singletonList(element) : element);
+    }
+
+    /** Constructs a {@code PageFactory} page and uses its first element. */
+    @Benchmark
+    public String pageFactory() {
+        return new FactoryLoginPage(context).txtUsername.getTagName();
+    }
+
+    /** Constructs the generated accessors and uses their first element. */
+    @Benchmark
+    public String generatedAccessors() {
+        return new BenchmarkPageElements(context).txtUsername().getTagName();
+    }
+
+    /** The login page with {@code @FindBy} fields initialized by {@code PageFactory}. */
+    public static class FactoryLoginPage {
+
+        @FindBy(id = "username")
+        WebElement txtUsername;
+
+        @FindBy(id = "password")
+        WebElement txtPassword;
+
+        @FindBy(id = "rememberMe")
+        WebElement chkRememberMe;
+
+        @FindBy(id = "loginBtn")
+        WebElement btnLogin;
+
+        @FindBy(xpath = "//div[@class='error']")
+        WebElement lblErrorMessage;
+
+        FactoryLoginPage(SearchContext context) {
+            PageFactory.initElements(new DefaultElementLocatorFactory(context), this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import datasource.DataSources;
+import utils.TestDataCache;
+
+/**
+ * JMH benchmark of {@link TestDataCache} against parsing the test data sheet in every test.
+ * <p>
+ * Each operation stands for one data-driven test on one of four parallel threads: it gets
+ * the sheet of a generated workbook and looks up its row by {@code TestCaseId}. With the
+ * cache, the sheet is parsed once and every later test reads the shared table; without it,
+ * every test parses the workbook again. Run with {@code -prof gc} to see the memory each
+ * test allocates.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main -Dexec.args="TestDataCacheBenchmark -prof gc"
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(4)
+@State(Scope.Benchmark)
+public class TestDataCacheBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private String workbook;
+
+    @Setup
+    public void setUp() throws IOException {
+        File file = BenchmarkWorkbooks.create(rows);
+        workbook = file.getPath();
+        TestDataCache.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestDataCache.clear();
+    }
+
+    /** Gets the sheet from the shared cache and looks up a row. */
+    @Benchmark
+    public Map<String, String> sharedCache() {
+        return TestDataCache.get(workbook, BenchmarkWorkbooks.SHEET).getRowByKey("TestCaseId", nextKey());
+    }
+
+    /** Parses the sheet and looks up a row. */
+    @Benchmark
+    public Map<String, String> parsePerTest() {
+        return DataSources.readTable(workbook, BenchmarkWorkbooks.SHEET).getRowByKey("TestCaseId", nextKey());
+    }
+
+    private String nextKey() {
+        return BenchmarkWorkbooks.testCaseId(1 + ThreadLocalRandom.current().nextInt(rows));
+    }
+}
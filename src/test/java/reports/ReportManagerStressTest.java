@@ -0,0 +1,102 @@
+package reports;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.SkipException;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.Test;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.Status;
+
+/**
+ * Stress test for the per-&lt;test&gt; report registry of {@link ReportManager}.
+ * <p>
+ * Each method runs {@value #INVOCATIONS} times on its own thread pool, and
+ * {@code testng-report-stress.xml} runs several {@code <test>} tags with parallel methods
+ * side by side, so nodes of different reports are created and logged to from many threads at
+ * once. About one invocation in ten is skipped to exercise the skip path of
+ * {@link listener.Listener}. Before each &lt;test&gt;'s report is flushed, its nodes are
+ * checked: one node per invocation, each finished with a pass or skip entry.
+ * </p>
+ *
+ * <p><b>Running:</b></p>
+ * <pre>
+ * mvn test -Dtestng.xml.file=src/test/resources/testng-report-stress.xml
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ReportManagerStressTest {
+
+    /** Invocations of each test method per &lt;test&gt;. */
+    private static final int INVOCATIONS = 60;
+
+    /** Test methods of this class. */
+    private static final String[] METHODS = {"login", "search", "checkout"};
+
+    @Test(invocationCount = INVOCATIONS, threadPoolSize = 8)
+    public void login() throws InterruptedException {
+        steps("login");
+    }
+
+    @Test(invocationCount = INVOCATIONS, threadPoolSize = 8)
+    public void search() throws InterruptedException {
+        steps("search");
+    }
+
+    @Test(invocationCount = INVOCATIONS, threadPoolSize = 8)
+    public void checkout() throws InterruptedException {
+        steps("checkout");
+    }
+
+    /**
+     * Checks that the &lt;test&gt;'s report holds exactly one finished node per invocation.
+     * Runs before {@link listener.Listener#onFinish(ITestContext)} closes the report.
+     *
+     * @param context The finished &lt;test&gt;
+     */
+    @AfterTest(alwaysRun = true)
+    public void verifyReport(ITestContext context) {
+        ExtentReports report = ReportManager.getExtent(context);
+        Assert.assertNotNull(report, "No report registered for <test> '" + context.getName() + "'");
+
+        int results = context.getPassedTests().size() + context.getFailedTests().size()
+                + context.getSkippedTests().size();
+        Assert.assertEquals(results, METHODS.length * INVOCATIONS, "Results of <test> '" + context.getName() + "'");
+
+        Map<String, Integer> nodesPerMethod = new HashMap<>();
+        synchronized (report) {
+            for (com.aventstack.extentreports.model.Test node : report.getReport().getTestList()) {
+                nodesPerMethod.merge(node.getName(), 1, Integer::sum);
+                boolean finished = node.getLogs().stream()
+                        .anyMatch(log -> log.getStatus() == Status.PASS || log.getStatus() == Status.SKIP);
+                Assert.assertTrue(finished, "Node '" + node.getName() + "' of <test> '" + context.getName()
+                        + "' has no pass or skip entry");
+            }
+        }
+        for (String method : METHODS) {
+            Assert.assertEquals(nodesPerMethod.getOrDefault(method, 0).intValue(), INVOCATIONS,
+                    "Nodes for " + method + " in <test> '" + context.getName() + "'");
+        }
+        Assert.assertEquals(nodesPerMethod.size(), METHODS.length, "Unexpected nodes " + nodesPerMethod.keySet());
+    }
+
+    /** Logs a few steps with short pauses, so invocations of different reports interleave. */
+    private static void steps(String name) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int step = 1; step <= 3; step++) {
+            TimeUnit.MILLISECONDS.sleep(random.nextInt(5));
+            Logger.info(name + " step " + step);
+        }
+        if (random.nextInt(10) == 0) {
+            throw new SkipException("Skipped to exercise the skip path");
+        }
+    }
+}